@@ -0,0 +1,79 @@
+package com.java.pojo.api;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * {@link NamedPredicate} that either accepts only or rejects only the field names of a fixed set.
+ * <p>
+ * Testing a name is a single hash set lookup, regardless of how many fields the predicate was created for. Negating
+ * the predicate swaps included and excluded names without wrapping it. The name lists the fields in the order they were
+ * given, e.g. {@code a,b} for included fields and {@code !(a,b)} for excluded ones, the same as
+ * {@link NamedPredicate#negate()} would name it.
+ */
+final class FieldNamesPredicate extends NamedPredicate<String> {
+
+    private final Set<String> fieldNames;
+    private final boolean included;
+
+    private FieldNamesPredicate(final Set<String> fieldNames, final boolean included) {
+        super(createName(fieldNames, included), membership(fieldNames, included));
+        this.fieldNames = fieldNames;
+        this.included = included;
+    }
+
+    static FieldNamesPredicate including(final Collection<String> fieldNames) {
+        return new FieldNamesPredicate(copyOf(fieldNames), true);
+    }
+
+    static FieldNamesPredicate excluding(final Collection<String> fieldNames) {
+        return new FieldNamesPredicate(copyOf(fieldNames), false);
+    }
+
+    @Override
+    public boolean test(final String fieldName) {
+        return fieldNames.contains(fieldName) == included;
+    }
+
+    @Override
+    public FieldNamesPredicate negate() {
+        return new FieldNamesPredicate(fieldNames, !included);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final FieldNamesPredicate that = (FieldNamesPredicate) o;
+        return included == that.included && fieldNames.equals(that.fieldNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * fieldNames.hashCode() + Boolean.hashCode(included);
+    }
+
+    private static Set<String> copyOf(final Collection<String> fieldNames) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(fieldNames));
+    }
+
+    private static String createName(final Set<String> fieldNames, final boolean included) {
+        final String joinedNames = String.join(",", fieldNames);
+        return included
+               ? joinedNames
+               : "!(" + joinedNames + ")";
+    }
+
+    private static Predicate<String> membership(final Set<String> fieldNames, final boolean included) {
+        return included
+               ? fieldNames::contains
+               : fieldName -> !fieldNames.contains(fieldName);
+    }
+}
@@ -9,12 +9,22 @@ import java.util.function.Predicate;
 /**
  * This class is used to create field predicates. It has methods that allow to create common predicates e.g. accept all
  * fields.
+ * <p>
+ * Created predicates test a field name with a single hash set lookup. Predicates accepting all fields of a class are
+ * created once per class.
  *
  * @author Piotr Joński
  * @since 0.1.0
  */
 public final class FieldPredicate {
 
+    private static final ClassValue<Predicate<String>> ALL_FIELDS = new ClassValue<Predicate<String>>() {
+        @Override
+        protected Predicate<String> computeValue(final Class<?> type) {
+            return include(FieldUtils.getAllFieldNames(type));
+        }
+    };
+
     private FieldPredicate() {
     }
 
@@ -26,8 +36,7 @@ public final class FieldPredicate {
      * @see Predicate
      */
     public static Predicate<String> includeAllFields(final Class<?> clazz) {
-        final List<String> allFieldNames = FieldUtils.getAllFieldNames(clazz);
-        return include(allFieldNames);
+        return ALL_FIELDS.get(clazz);
     }
 
     /**
@@ -38,11 +47,7 @@ public final class FieldPredicate {
      * @see Predicate
      */
     public static Predicate<String> include(final List<String> includedFields) {
-        Predicate<String> predicate = getAlwaysFalsePredicate();
-        for (final String filedName : includedFields) {
-            predicate = predicate.or(getEqualPredicate(filedName));
-        }
-        return predicate;
+        return FieldNamesPredicate.including(includedFields);
     }
 
     /**
@@ -65,11 +70,7 @@ public final class FieldPredicate {
      * @see Predicate
      */
     public static Predicate<String> exclude(final List<String> excludedFields) {
-        Predicate<String> predicate = getAlwaysTruePredicate();
-        for (final String filedName : excludedFields) {
-            predicate = predicate.and(getNonEqualPredicate(filedName));
-        }
-        return predicate;
+        return FieldNamesPredicate.excluding(excludedFields);
     }
 
     /**
@@ -83,22 +84,4 @@ public final class FieldPredicate {
         return exclude(Arrays.asList(excludedFields));
     }
 
-    private static Predicate<String> getAlwaysFalsePredicate() {
-        return new NamedPredicate<>(fieldName -> false);
-    }
-
-    private static Predicate<String> getAlwaysTruePredicate() {
-        return new NamedPredicate<>(fieldName -> true);
-    }
-
-    private static Predicate<String> getNonEqualPredicate(final String filedName) {
-        final NamedPredicate<String> equalPredicate = getEqualPredicate(filedName);
-        return new NamedPredicate<>(equalPredicate.negate());
-    }
-
-    private static NamedPredicate<String> getEqualPredicate(final String filedName) {
-        return new NamedPredicate<>(filedName, otherFieldName -> otherFieldName.equals(filedName));
-    }
-
 }
-
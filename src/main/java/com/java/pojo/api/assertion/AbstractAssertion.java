@@ -5,13 +5,21 @@ import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
 import org.slf4j.Logger;
 import com.java.pojo.api.ClassAndFieldPredicatePair;
 import com.java.pojo.api.ConstructorParameters;
+import com.java.pojo.internal.assertion.AbstractAssertionError;
 import com.java.pojo.internal.field.AbstractFieldValueChanger;
+import com.java.pojo.internal.instantiator.GenerationSession;
+import com.java.pojo.internal.instantiator.NestedObjectsCombination;
+import com.java.pojo.internal.instantiator.ObjectGenerator;
+import com.java.pojo.internal.utils.CoveringArrayFieldPermutator;
+import com.java.pojo.internal.utils.GrayCodeFieldPermutator;
 import com.java.pojo.internal.utils.Permutator;
+import com.java.pojo.internal.utils.SampledFieldPermutator;
 import com.java.pojo.internal.utils.SublistFieldPermutator;
 import com.java.pojo.internal.utils.ThoroughFieldPermutator;
 import com.java.pojo.internal.tester.AbstractTester;
 import com.java.pojo.internal.utils.ClassLoader;
 
+import java.time.Clock;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
@@ -36,6 +44,7 @@ public abstract class AbstractAssertion {
     static {
         DEFAULT_TESTERS = new HashSet<>();
         Arrays.stream(Method.values())
+              .filter(method -> method != Method.EQUALS && method != Method.HASH_CODE)
               .map(Method::getTester)
               .forEach(DEFAULT_TESTERS::add);
     }
@@ -44,6 +53,10 @@ public abstract class AbstractAssertion {
     Set<AbstractTester> testers = new HashSet<>();
     private AbstractFieldValueChanger abstractFieldValueChanger;
     private Permutator permutator = new ThoroughFieldPermutator();
+    private boolean incrementalGeneration;
+    private Clock clock = ObjectGenerator.DEFAULT_CLOCK;
+    private long seed = ObjectGenerator.DEFAULT_SEED;
+    private NestedObjectsCombination nestedObjectsCombination = NestedObjectsCombination.cartesian();
 
     /**
      * Specifies what field values changer will be used for testing.
@@ -59,6 +72,23 @@ public abstract class AbstractAssertion {
         return this;
     }
 
+    /**
+     * Specifies values of java types set into generated objects. Time based values are taken from {@code clock}, and
+     * identifiers are drawn from a sequence started at {@code seed}, so the same clock and seed always give the same
+     * values. By default a fixed clock and seed are used.
+     *
+     * @param clock clock of time based values
+     * @param seed  seed of identifier values
+     * @return itself
+     */
+    public AbstractAssertion using(final Clock clock, final long seed) {
+        checkNotNull("clock", clock);
+
+        this.clock = clock;
+        this.seed = seed;
+        return this;
+    }
+
     /**
      * Specifies generation of O(2^N) test objects for N fields.
      *
@@ -66,6 +96,7 @@ public abstract class AbstractAssertion {
      */
     public AbstractAssertion thoroughly() {
         this.permutator = new ThoroughFieldPermutator();
+        this.incrementalGeneration = false;
         return this;
     }
 
@@ -76,6 +107,81 @@ public abstract class AbstractAssertion {
      */
     public AbstractAssertion quickly() {
         this.permutator = new SublistFieldPermutator();
+        this.incrementalGeneration = false;
+        return this;
+    }
+
+    /**
+     * Specifies generation of test objects in which every two fields are changed together, separately and not at all.
+     * The number of objects grows with O(log N) for N fields.
+     *
+     * @return itself
+     * @see #covering(int)
+     */
+    public AbstractAssertion pairwise() {
+        return covering(2);
+    }
+
+    /**
+     * Specifies generation of test objects in which every combination of changing or not any {@code strength} fields
+     * is present. The number of objects grows with O(log N) for N fields and with O(2^strength) for the strength.
+     *
+     * @param strength number of fields whose combinations will be covered, at least one
+     * @return itself
+     * @throws IllegalArgumentException if strength is lower than one
+     */
+    public AbstractAssertion covering(final int strength) {
+        this.permutator = new CoveringArrayFieldPermutator(strength);
+        this.incrementalGeneration = false;
+        return this;
+    }
+
+    /**
+     * Specifies generation of O(N) test objects for N fields: one for each field, one for all fields and
+     * {@code budget} for randomly chosen sets of fields. The same {@code seed} always chooses the same sets. Failure
+     * messages print the seed, so a failed run can be reproduced.
+     *
+     * @param seed   seed of random choice of fields
+     * @param budget number of randomly chosen sets of fields, not negative
+     * @return itself
+     * @throws IllegalArgumentException if budget is negative
+     */
+    public AbstractAssertion sampled(final long seed, final int budget) {
+        this.permutator = new SampledFieldPermutator(seed, budget);
+        this.incrementalGeneration = false;
+        return this;
+    }
+
+    /**
+     * Specifies generation of O(2^N) test objects for N fields, like {@link #thoroughly()}, but in an order where each
+     * next object differs from the previous one by a single field. Objects are not created one by one. Instead a single
+     * working copy is changed by one field for each next object. Calling {@link #thoroughly()}, {@link #quickly()},
+     * {@link #pairwise()}, {@link #covering(int)} or {@link #sampled(long, int)} afterwards turns it off again.
+     *
+     * @return itself
+     */
+    public AbstractAssertion incrementally() {
+        this.permutator = new GrayCodeFieldPermutator();
+        this.incrementalGeneration = true;
+        return this;
+    }
+
+    /**
+     * Specifies how objects generated for fields of nested classes are combined into objects of classes containing
+     * them. By default every object of every nested field is combined with every object of all other nested fields,
+     * which for many nested fields gives a very large number of objects.
+     *
+     * @param nestedObjectsCombination nested objects combination strategy
+     * @return itself
+     * @see NestedObjectsCombination#cartesian()
+     * @see NestedObjectsCombination#eachVariantOnce()
+     * @see NestedObjectsCombination#pairwise()
+     * @see NestedObjectsCombination#limitedTo(int)
+     */
+    public AbstractAssertion combiningNestedObjects(final NestedObjectsCombination nestedObjectsCombination) {
+        checkNotNull("nestedObjectsCombination", nestedObjectsCombination);
+
+        this.nestedObjectsCombination = nestedObjectsCombination;
         return this;
     }
 
@@ -110,7 +216,8 @@ public abstract class AbstractAssertion {
     }
 
     /**
-     * Performs specified tests on classes using declared field value changer.
+     * Performs specified tests on classes using declared field value changer. Objects generated for the tests are shared
+     * by all testers, up to a limit, and released when the tests end.
      *
      * @see Method
      * @see AbstractFieldValueChanger
@@ -124,9 +231,23 @@ public abstract class AbstractAssertion {
         }
 
         testers.forEach(tester -> tester.setPermutator(permutator));
+        testers.forEach(tester -> tester.setIncrementalGeneration(incrementalGeneration));
+        testers.forEach(tester -> tester.setNestedObjectsCombination(nestedObjectsCombination));
+        testers.forEach(tester -> tester.setClockAndSeed(clock, seed));
         testers.forEach(tester -> tester.setUserDefinedConstructors(constructorParameters));
 
-        runAssertions();
+        try (GenerationSession generationSession = new GenerationSession()) {
+            testers.forEach(tester -> tester.setGenerationSession(generationSession));
+            runAssertions();
+        } catch (final AbstractAssertionError e) {
+            if (permutator instanceof SampledFieldPermutator) {
+                e.setReproductionHint("Test objects were generated by " + permutator
+                                      + ". Use the same seed and budget to reproduce this failure.");
+            }
+            throw e;
+        } finally {
+            testers.forEach(tester -> tester.setGenerationSession(null));
+        }
     }
 
     /**
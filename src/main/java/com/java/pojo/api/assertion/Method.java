@@ -5,6 +5,7 @@ import java.lang.reflect.InvocationTargetException;
 
 import com.java.pojo.internal.tester.AbstractTester;
 import com.java.pojo.internal.tester.ConstructorTester;
+import com.java.pojo.internal.tester.EqualsAndHashCodeTester;
 import com.java.pojo.internal.tester.EqualsTester;
 import com.java.pojo.internal.tester.GetterTester;
 import com.java.pojo.internal.tester.HashCodeTester;
@@ -25,7 +26,12 @@ public enum Method {
     SETTER(SetterTester.class),
     GETTER(GetterTester.class),
     TO_STRING(ToStringTester.class),
-    CONSTRUCTOR(ConstructorTester.class);
+    CONSTRUCTOR(ConstructorTester.class),
+    /**
+     * Tests equals and hashCode methods in a single pass over generated objects. It performs all tests of
+     * {@link #EQUALS} and {@link #HASH_CODE}, and replaces both of them when no methods are specified.
+     */
+    EQUALS_AND_HASH_CODE(EqualsAndHashCodeTester.class);
 
     private final Class<? extends AbstractTester> testerClass;
 
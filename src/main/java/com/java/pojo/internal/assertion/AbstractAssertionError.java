@@ -4,6 +4,7 @@ package com.java.pojo.internal.assertion;
 public abstract class AbstractAssertionError extends RuntimeException {
 
     protected final Class<?> testedCass;
+    private String reproductionHint;
 
     public AbstractAssertionError(final Class<?> testedCass) {
         super();
@@ -13,7 +14,18 @@ public abstract class AbstractAssertionError extends RuntimeException {
 
     @Override
     public String getMessage() {
-        return "\n\n\n" + getErrorPrefix() + "\n" + getDetailedMessage();
+        final String message = "\n\n\n" + getErrorPrefix() + "\n" + getDetailedMessage();
+        return reproductionHint == null
+               ? message
+               : message + "\n" + reproductionHint;
+    }
+
+    /**
+     * Sets information needed to reproduce this failure, e.g. seed of randomly generated test objects. It is appended
+     * to the message.
+     */
+    public void setReproductionHint(final String reproductionHint) {
+        this.reproductionHint = reproductionHint;
     }
 
     protected abstract String getErrorPrefix();
@@ -1,8 +1,9 @@
 package com.java.pojo.internal.assertion.constructor;
 
 
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
+import com.java.pojo.internal.utils.ConstructorHandle;
+import org.apache.commons.lang3.ClassUtils;
+
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
@@ -17,23 +18,53 @@ public class ConstructorAssertions {
     }
 
     public void willInstantiateClassUsing(final Object... constructorParameters) {
+        final ConstructorHandle constructorHandle;
         try {
-        	// Check if the constructor is private
-            if (!constructorUnderAssert.canAccess(null)) {
-                // Use MethodHandles to access the constructor
-                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(classUnderTest, MethodHandles.lookup());
-                MethodType methodType = MethodType.methodType(void.class, constructorUnderAssert.getParameterTypes());
-                lookup.findConstructor(classUnderTest, methodType).invokeWithArguments(constructorParameters);
-            } else {
-                // Use reflection for accessible constructors
-                constructorUnderAssert.newInstance(constructorParameters);
-            }
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            constructorHandle = ConstructorHandle.of(constructorUnderAssert);
+        } catch (final IllegalAccessException e) {
             throw new ConstructorAssertionError(classUnderTest, constructorUnderAssert, constructorParameters, e);
-        } catch (Throwable e) {
-        	throw new ConstructorAssertionError(classUnderTest, constructorUnderAssert, constructorParameters, new ReflectiveOperationException(e));
-		}
+        }
+        final IllegalArgumentException argumentsMismatch = checkArguments(constructorParameters);
+        if (argumentsMismatch != null) {
+            throw new ConstructorAssertionError(classUnderTest,
+                                                constructorUnderAssert,
+                                                constructorParameters,
+                                                new ReflectiveOperationException(argumentsMismatch));
+        }
+        try {
+            constructorHandle.newInstance(constructorParameters);
+        } catch (final Throwable e) {
+            throw new ConstructorAssertionError(classUnderTest,
+                                                constructorUnderAssert,
+                                                constructorParameters,
+                                                new InvocationTargetException(e));
+        }
+    }
 
+    /**
+     * Checks arguments the way {@link Constructor#newInstance(Object...)} does, so that only exceptions thrown by the
+     * constructor itself are reported as {@link InvocationTargetException}.
+     *
+     * @return exception describing why the constructor does not accept given arguments, or {@code null} if it does
+     */
+    private IllegalArgumentException checkArguments(final Object[] constructorParameters) {
+        final Object[] arguments = constructorParameters == null
+                                   ? new Object[0]
+                                   : constructorParameters;
+        final Class<?>[] parameterTypes = constructorUnderAssert.getParameterTypes();
+        if (arguments.length != parameterTypes.length) {
+            return new IllegalArgumentException("wrong number of arguments: " + arguments.length
+                                                + " expected: " + parameterTypes.length);
+        }
+        for (int i = 0; i < arguments.length; i++) {
+            final boolean accepted = arguments[i] == null
+                                     ? !parameterTypes[i].isPrimitive()
+                                     : ClassUtils.isAssignable(arguments[i].getClass(), parameterTypes[i], true);
+            if (!accepted) {
+                return new IllegalArgumentException("argument type mismatch");
+            }
+        }
+        return null;
     }
 
 }
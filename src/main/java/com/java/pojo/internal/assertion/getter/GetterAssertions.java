@@ -2,9 +2,10 @@ package com.java.pojo.internal.assertion.getter;
 
 import com.java.pojo.internal.GetOrSetValueException;
 import com.java.pojo.internal.utils.FieldUtils;
+import com.java.pojo.internal.utils.MethodAccessors;
+import org.apache.commons.lang3.Strings;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Objects;
 
@@ -19,31 +20,24 @@ public class GetterAssertions {
 	}
 
 	public void willGetValueFromField(final Method getter, final Field field) {
+		// Validate that the getter matches the field
+		if (!Strings.CI.contains(getter.getName(), field.getName())) {
+			checkResult(false, new GetterAssertionError(classUnderTest, field,
+					"Getter does not match field: " + field.getName(), null));
+		}
+
+		final Object valueFromGetter;
 		try {
-			// Validate that the getter matches the field
-			if (!getter.getName().toLowerCase().contains(field.getName().toLowerCase())) {
-				checkResult(false, new GetterAssertionError(classUnderTest, field,
-						"Getter does not match field: " + field.getName(), null));
-			}
-
-			// Ensure the getter is accessible
-			if (!getter.canAccess(objectUnderAssert)) {
-				getter.setAccessible(true);
-			}
-			final Object valueFromGetter = getter.invoke(objectUnderAssert);
-
-			// Ensure the field is accessible
-			if (!field.canAccess(objectUnderAssert)) {
-				field.setAccessible(true);
-			}
-			final Object value = FieldUtils.getValue(objectUnderAssert, field);
-
-			// Compare values
-			final boolean result = Objects.deepEquals(value, valueFromGetter);
-			checkResult(result, new GetterAssertionError(classUnderTest, field, valueFromGetter, value));
-		} catch (IllegalAccessException | InvocationTargetException e) {
+			valueFromGetter = MethodAccessors.getter(getter)
+			                                 .apply(objectUnderAssert);
+		} catch (final Exception e) {
 			throw new GetOrSetValueException(field.getName(), classUnderTest, e);
 		}
+		final Object value = FieldUtils.getValue(objectUnderAssert, field);
+
+		// Compare values
+		final boolean result = Objects.deepEquals(value, valueFromGetter);
+		checkResult(result, new GetterAssertionError(classUnderTest, field, valueFromGetter, value));
 	}
 
 	private void checkResult(final boolean pass, final GetterAssertionError errorToThrow) {
@@ -2,9 +2,10 @@ package com.java.pojo.internal.assertion.setter;
 
 import com.java.pojo.internal.GetOrSetValueException;
 import com.java.pojo.internal.utils.FieldUtils;
+import com.java.pojo.internal.utils.MethodAccessors;
+import org.apache.commons.lang3.Strings;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Objects;
 
@@ -19,35 +20,23 @@ public class SetterAssertions {
 	}
 
 	public void willSetValueOnField(final Method setter, final Field field, final Object expectedValue) {
+		// Validate that the setter matches the field
+		if (!Strings.CI.contains(setter.getName(), field.getName())) {
+			checkResult(false, new SetterAssertionError(classUnderTest, field, expectedValue,
+					"Setter does not match field: " + field.getName()));
+		}
+
 		try {
-			// Validate that the setter matches the field
-			if (!setter.getName().toLowerCase().contains(field.getName().toLowerCase())) {
-				checkResult(false, new SetterAssertionError(classUnderTest, field, expectedValue,
-						"Setter does not match field: " + field.getName()));
-			}
-
-			// Ensure the setter is accessible
-			if (!setter.canAccess(objectUnderAssert)) {
-				setter.setAccessible(true);
-			}
-
-			// Invoke the setter
-			setter.invoke(objectUnderAssert, expectedValue);
-
-			// Ensure the field is accessible
-			if (!field.canAccess(objectUnderAssert)) {
-				field.setAccessible(true);
-			}
-
-			// Get the field value
-			final Object value = FieldUtils.getValue(objectUnderAssert, field);
-
-			// Compare values
-			final boolean result = Objects.deepEquals(value, expectedValue);
-			checkResult(result, new SetterAssertionError(classUnderTest, field, expectedValue, value));
-		} catch (IllegalAccessException | InvocationTargetException e) {
+			MethodAccessors.setter(setter)
+			               .accept(objectUnderAssert, expectedValue);
+		} catch (final Exception e) {
 			throw new GetOrSetValueException(field.getName(), classUnderTest, e);
 		}
+		final Object value = FieldUtils.getValue(objectUnderAssert, field);
+
+		// Compare values
+		final boolean result = Objects.deepEquals(value, expectedValue);
+		checkResult(result, new SetterAssertionError(classUnderTest, field, expectedValue, value));
 	}
 
 	private void checkResult(final boolean pass, final SetterAssertionError errorToThrow) {
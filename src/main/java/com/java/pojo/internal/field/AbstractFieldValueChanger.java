@@ -2,6 +2,7 @@ package com.java.pojo.internal.field;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.java.pojo.internal.utils.FieldHandle;
 import com.java.pojo.internal.utils.FieldUtils;
 
 import java.lang.reflect.Field;
@@ -9,18 +10,33 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class AbstractFieldValueChanger<T> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractFieldValueChanger.class);
+    private static final ClassValue<Class<?>> GENERIC_TYPE_CLASSES = new ClassValue<Class<?>>() {
+        @Override
+        protected Class<?> computeValue(final Class<?> changerClass) {
+            final Type type = ((ParameterizedType) changerClass.getGenericSuperclass()).getActualTypeArguments()[0];
+            return type instanceof ParameterizedType
+                   ? (Class<?>) ((ParameterizedType) type).getRawType()
+                   : (Class<?>) type;
+        }
+    };
+    private static final AtomicInteger CHAIN_VERSION = new AtomicInteger();
 
     private AbstractFieldValueChanger next;
+    private volatile ValueChangerRegistry registry;
 
     public void changeFieldsValues(final Object sourceObject,
                                    final Object targetObject,
                                    final List<Field> fieldsToChange) {
-        fieldsToChange.forEach(eachField -> checkAndChange(sourceObject, targetObject, eachField));
-        callNextValuesChanger(sourceObject, targetObject, fieldsToChange);
+        final ValueChangerRegistry changers = getRegistry();
+        for (final Field field : fieldsToChange) {
+            changers.bind(field)
+                    .change(sourceObject, targetObject);
+        }
     }
 
     public boolean areDifferentValues(final T sourceValue, final T targetValue) {
@@ -36,25 +52,24 @@ public abstract class AbstractFieldValueChanger<T> {
         } else {
             this.next.attachNext(abstractFieldValueChanger);
         }
+        CHAIN_VERSION.incrementAndGet();
         return this;
     }
 
     public T increaseValue(final T value) {
-        if (canChange(value.getClass())) {
-            final T increasedValue = increaseValue(value, value.getClass());
-            LOGGER.debug("Changing value of type {} from '{}' to '{}' ({})",
-                         value.getClass(),
-                         value,
-                         increasedValue,
-                         this);
-            return increasedValue;
-        } else {
-            if (next != null) {
-                return (T) next.increaseValue(value);
-            }
+        final List<AbstractFieldValueChanger> changers = getRegistry().forType(value.getClass());
+        if (changers.isEmpty()) {
             LOGGER.debug("Could not change value '{}' ot type {} by any field value changer", value, value.getClass());
             return value;
         }
+        final AbstractFieldValueChanger changer = changers.get(0);
+        final T increasedValue = (T) changer.increaseValue(value, value.getClass());
+        LOGGER.debug("Changing value of type {} from '{}' to '{}' ({})",
+                     value.getClass(),
+                     value,
+                     increasedValue,
+                     changer);
+        return increasedValue;
     }
 
     protected abstract T increaseValue(T value, final Class<?> type);
@@ -62,26 +77,51 @@ public abstract class AbstractFieldValueChanger<T> {
     protected abstract boolean canChange(final Class<?> type);
 
     protected Class<T> getGenericTypeClass() {
-        final Type type = ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0];
-        return type instanceof ParameterizedType
-               ? (Class<T>) ((ParameterizedType) type).getRawType()
-               : (Class<T>) type;
+        return (Class<T>) GENERIC_TYPE_CLASSES.get(getClass());
     }
 
-    private void checkAndChange(final Object sourceObject, final Object targetObject, final Field field) {
-        if (canChange(field.getType())) {
-            changeFieldValue(sourceObject, targetObject, field);
+    AbstractFieldValueChanger getNext() {
+        return next;
+    }
+
+    /**
+     * Changers responsible for each type are resolved once per chain. The registry is rebuilt after any chain
+     * was extended, because this chain may share its tail with the extended one.
+     */
+    private ValueChangerRegistry getRegistry() {
+        final int chainVersion = CHAIN_VERSION.get();
+        ValueChangerRegistry result = registry;
+        if (result == null || result.getChainVersion() != chainVersion) {
+            result = new ValueChangerRegistry(this, chainVersion);
+            registry = result;
         }
+        return result;
     }
 
-    private void callNextValuesChanger(final Object sourceObject,
-                                       final Object targetObject,
-                                       final List<Field> fieldsToChange) {
-        if (next != null) {
-            next.changeFieldsValues(sourceObject, targetObject, fieldsToChange);
+    /**
+     * Changes value of the field in {@code targetObject} if it is not different from the value in {@code sourceObject}.
+     * Primitive fields are changed through {@link #changePrimitiveFieldValue} when the changer supports it, so values
+     * are never boxed. Wrapper fields and changers without primitive support use the boxed path.
+     */
+    void changeValue(final Object sourceObject, final Object targetObject, final Field field) {
+        if (!field.getType()
+                  .isPrimitive() || !changePrimitiveFieldValue(FieldHandle.of(field), sourceObject, targetObject)) {
+            changeFieldValue(sourceObject, targetObject, field);
         }
     }
 
+    /**
+     * Changes value of primitive field without boxing it, using the typed accessors of {@link FieldHandle}. Must
+     * behave like {@link #increaseValue(Object, Class)} combined with {@link #areDifferentValues(Object, Object)}.
+     *
+     * @return {@code true} if the field was handled, {@code false} to fall back to the boxed path
+     */
+    protected boolean changePrimitiveFieldValue(final FieldHandle field,
+                                                final Object sourceObject,
+                                                final Object targetObject) {
+        return false;
+    }
+
     private void changeFieldValue(final Object sourceObject, final Object targetObject, final Field field) {
         final T sourceFieldValue = (T) FieldUtils.getValue(sourceObject, field);
         final T targetFieldValue = (T) FieldUtils.getValue(targetObject, field);
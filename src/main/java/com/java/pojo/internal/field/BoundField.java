@@ -0,0 +1,28 @@
+package com.java.pojo.internal.field;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Field bound to the value changers of a chain that are responsible for its type.
+ */
+final class BoundField {
+
+    private final Field field;
+    private final AbstractFieldValueChanger[] changers;
+
+    BoundField(final Field field, final List<AbstractFieldValueChanger> changers) {
+        this.field = field;
+        this.changers = changers.toArray(new AbstractFieldValueChanger[0]);
+    }
+
+    Field getField() {
+        return field;
+    }
+
+    void change(final Object sourceObject, final Object targetObject) {
+        for (final AbstractFieldValueChanger changer : changers) {
+            changer.changeValue(sourceObject, targetObject, field);
+        }
+    }
+}
@@ -1,7 +1,23 @@
 package com.java.pojo.internal.field;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Changes strings into values of a counter, encoded in base 36 with a fixed width of {@value #WIDTH} characters.
+ * <p>
+ * A string that is such a value is increased to the next value of the counter, wrapping around after the last one.
+ * Any other string, including {@code null}, is increased to the first value. Increased strings therefore never grow,
+ * however many times they are increased. Strings of the first {@value #CACHED_VALUES} values are created once and
+ * reused.
+ */
 class StringValueChanger extends AbstractFieldValueChanger<String> {
 
+    static final int WIDTH = 6;
+    private static final int RADIX = 36;
+    private static final long VALUES = pow(RADIX, WIDTH);
+    private static final int CACHED_VALUES = 4096;
+    private static final AtomicReferenceArray<String> CACHE = new AtomicReferenceArray<>(CACHED_VALUES);
+
     @Override
     protected boolean canChange(final Class<?> type) {
         return type.equals(String.class);
@@ -9,6 +25,60 @@ class StringValueChanger extends AbstractFieldValueChanger<String> {
 
     @Override
     protected String increaseValue(final String value, final Class<?> type) {
-        return value + "++increased";
+        final long counter = counterOf(value);
+        return valueOf(counter < 0
+                       ? 0
+                       : (counter + 1) % VALUES);
+    }
+
+    /**
+     * @return value of counter encoded in given string, or {@code -1} if the string does not encode any
+     */
+    static long counterOf(final String value) {
+        if (value == null || value.length() != WIDTH) {
+            return -1;
+        }
+        long counter = 0;
+        for (int i = 0; i < WIDTH; i++) {
+            final int digit = Character.digit(value.charAt(i), RADIX);
+            if (digit < 0) {
+                return -1;
+            }
+            counter = counter * RADIX + digit;
+        }
+        return counter;
+    }
+
+    static String valueOf(final long counter) {
+        if (counter >= CACHED_VALUES) {
+            return encode(counter);
+        }
+        final int index = (int) counter;
+        final String cached = CACHE.get(index);
+        if (cached != null) {
+            return cached;
+        }
+        final String value = encode(counter);
+        return CACHE.compareAndSet(index, null, value)
+               ? value
+               : CACHE.get(index);
+    }
+
+    private static String encode(final long counter) {
+        final char[] digits = new char[WIDTH];
+        long remaining = counter;
+        for (int i = WIDTH - 1; i >= 0; i--) {
+            digits[i] = Character.forDigit((int) (remaining % RADIX), RADIX);
+            remaining /= RADIX;
+        }
+        return new String(digits);
+    }
+
+    private static long pow(final int base, final int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
     }
 }
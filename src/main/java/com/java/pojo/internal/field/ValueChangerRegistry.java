@@ -0,0 +1,83 @@
+package com.java.pojo.internal.field;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Value changers of a single chain indexed by the type they can change.
+ * <p>
+ * The chain is snapshotted when the registry is created, and the changers responsible for a type are resolved by
+ * calling {@code canChange} once per type. The result is cached in a {@link ClassValue}. Changers are kept in chain
+ * order, so the first one is the one that would have been reached first by walking the chain. Fields are bound to
+ * their changers once as well, so changing fields of an object is a flat loop over bound fields.
+ */
+final class ValueChangerRegistry {
+
+    private final int chainVersion;
+    private final List<AbstractFieldValueChanger> chain;
+    private final ClassValue<List<AbstractFieldValueChanger>> changersByType = new ClassValue<List<AbstractFieldValueChanger>>() {
+        @Override
+        protected List<AbstractFieldValueChanger> computeValue(final Class<?> type) {
+            return resolve(type);
+        }
+    };
+    private final ClassValue<Map<Field, BoundField>> boundFieldsByDeclaringClass = new ClassValue<Map<Field, BoundField>>() {
+        @Override
+        protected Map<Field, BoundField> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    ValueChangerRegistry(final AbstractFieldValueChanger head, final int chainVersion) {
+        this.chainVersion = chainVersion;
+        this.chain = snapshot(head);
+    }
+
+    int getChainVersion() {
+        return chainVersion;
+    }
+
+    List<AbstractFieldValueChanger> forType(final Class<?> type) {
+        return changersByType.get(type);
+    }
+
+    /**
+     * @return field bound to the changers responsible for its type, resolved once per field
+     */
+    BoundField bind(final Field field) {
+        final Map<Field, BoundField> boundFields = boundFieldsByDeclaringClass.get(field.getDeclaringClass());
+        final BoundField boundField = boundFields.get(field);
+        return boundField != null
+               ? boundField
+               : boundFields.computeIfAbsent(field, eachField -> new BoundField(eachField, forType(eachField.getType())));
+    }
+
+    private List<AbstractFieldValueChanger> resolve(final Class<?> type) {
+        final List<AbstractFieldValueChanger> changers = new ArrayList<>();
+        for (final AbstractFieldValueChanger changer : chain) {
+            if (changer.canChange(type)) {
+                changers.add(changer);
+            }
+        }
+        return changers.isEmpty()
+               ? Collections.emptyList()
+               : Collections.unmodifiableList(changers);
+    }
+
+    private static List<AbstractFieldValueChanger> snapshot(final AbstractFieldValueChanger head) {
+        final List<AbstractFieldValueChanger> changers = new ArrayList<>();
+        final Set<AbstractFieldValueChanger> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        AbstractFieldValueChanger current = head;
+        while (current != null && visited.add(current)) {
+            changers.add(current);
+            current = current.getNext();
+        }
+        return changers;
+    }
+}
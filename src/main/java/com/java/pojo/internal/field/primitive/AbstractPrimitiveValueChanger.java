@@ -1,10 +1,8 @@
 package com.java.pojo.internal.field.primitive;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.apache.commons.lang3.ClassUtils;
 import com.java.pojo.internal.field.AbstractFieldValueChanger;
 import com.java.pojo.internal.utils.CollectionUtils;
-import com.java.pojo.internal.utils.FieldUtils;
 
 import java.util.List;
 
@@ -17,7 +15,6 @@ public abstract class AbstractPrimitiveValueChanger<T> extends AbstractFieldValu
                                                                                       .attachNext(new LongValueChanger())
                                                                                       .attachNext(new ShortValueChanger())
                                                                                       .attachNext(new FloatValueChanger());
-    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractPrimitiveValueChanger.class);
     private static final List<Class<?>> PRIMITIVE_CLASSES = CollectionUtils.asList(Float.class,
                                                                                    Integer.class,
                                                                                    Long.class,
@@ -27,16 +24,18 @@ public abstract class AbstractPrimitiveValueChanger<T> extends AbstractFieldValu
                                                                                    Short.class,
                                                                                    Boolean.class,
                                                                                    Character.class);
-    private static final String FIELD_WITH_PRIMITIVE_CLASS_REFERENCE = "TYPE";
 
     @Override
     protected T increaseValue(final T value, final Class<?> type) {
         return increase(value);
     }
 
+    /**
+     * Increases boxed value. Changers supporting primitive fields derive it from the same typed increment they use in
+     * {@link #changePrimitiveFieldValue}.
+     */
     protected abstract T increase(T value);
 
-
     @Override
     protected boolean canChange(final Class<?> type) {
         return isPrimitive(type) && isCompatibleWithPrimitive(type)
@@ -48,13 +47,7 @@ public abstract class AbstractPrimitiveValueChanger<T> extends AbstractFieldValu
     }
 
     private boolean isCompatibleWithPrimitive(final Class<?> type) {
-        try {
-            return FieldUtils.getValue(null, getGenericTypeClass().getField(FIELD_WITH_PRIMITIVE_CLASS_REFERENCE))
-                             .equals(type);
-        } catch (final NoSuchFieldException e) {
-            LOGGER.debug("NoSuchFieldException:", e);
-            return false;
-        }
+        return type.equals(ClassUtils.wrapperToPrimitive(getGenericTypeClass()));
     }
 
     private boolean isWrappedPrimitive(final Class<?> type) {
@@ -62,14 +55,7 @@ public abstract class AbstractPrimitiveValueChanger<T> extends AbstractFieldValu
     }
 
     private boolean isCompatibleWithWrappedPrimitive(final Class<?> type) {
-        try {
-            final Object fieldPrimitiveType = FieldUtils.getValue(null,
-                                                                  type.getField(FIELD_WITH_PRIMITIVE_CLASS_REFERENCE));
-            return FieldUtils.getValue(null, getGenericTypeClass().getField(FIELD_WITH_PRIMITIVE_CLASS_REFERENCE))
-                             .equals(fieldPrimitiveType);
-        } catch (final NoSuchFieldException e) {
-            LOGGER.debug("NoSuchFieldException:", e);
-            return false;
-        }
+        return ClassUtils.wrapperToPrimitive(type)
+                         .equals(ClassUtils.wrapperToPrimitive(getGenericTypeClass()));
     }
 }
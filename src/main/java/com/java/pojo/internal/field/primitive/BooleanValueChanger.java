@@ -1,9 +1,27 @@
 package com.java.pojo.internal.field.primitive;
 
+import com.java.pojo.internal.utils.FieldHandle;
+
 class BooleanValueChanger extends AbstractPrimitiveValueChanger<Boolean> {
 
     @Override
     protected Boolean increase(final Boolean value) {
+        return increment(value.booleanValue());
+    }
+
+    @Override
+    protected boolean changePrimitiveFieldValue(final FieldHandle field,
+                                                final Object sourceObject,
+                                                final Object targetObject) {
+        final boolean sourceValue = field.getBoolean(sourceObject);
+        final boolean targetValue = field.getBoolean(targetObject);
+        if (targetValue == sourceValue) {
+            field.setBoolean(targetObject, increment(targetValue));
+        }
+        return true;
+    }
+
+    private static boolean increment(final boolean value) {
         return !value;
     }
 }
@@ -1,11 +1,27 @@
 package com.java.pojo.internal.field.primitive;
 
+import com.java.pojo.internal.utils.FieldHandle;
 
 class ByteValueChanger extends AbstractPrimitiveValueChanger<Byte> {
 
     @Override
     protected Byte increase(final Byte value) {
-        return (byte) (value + 1);
+        return increment(value.byteValue());
+    }
+
+    @Override
+    protected boolean changePrimitiveFieldValue(final FieldHandle field,
+                                                final Object sourceObject,
+                                                final Object targetObject) {
+        final byte sourceValue = field.getByte(sourceObject);
+        final byte targetValue = field.getByte(targetObject);
+        if (targetValue == sourceValue) {
+            field.setByte(targetObject, increment(targetValue));
+        }
+        return true;
     }
 
+    private static byte increment(final byte value) {
+        return (byte) (value + 1);
+    }
 }
@@ -1,9 +1,27 @@
 package com.java.pojo.internal.field.primitive;
 
+import com.java.pojo.internal.utils.FieldHandle;
+
 class CharacterValueChanger extends AbstractPrimitiveValueChanger<Character> {
 
     @Override
     protected Character increase(final Character value) {
+        return increment(value.charValue());
+    }
+
+    @Override
+    protected boolean changePrimitiveFieldValue(final FieldHandle field,
+                                                final Object sourceObject,
+                                                final Object targetObject) {
+        final char sourceValue = field.getChar(sourceObject);
+        final char targetValue = field.getChar(targetObject);
+        if (targetValue == sourceValue) {
+            field.setChar(targetObject, increment(targetValue));
+        }
+        return true;
+    }
+
+    private static char increment(final char value) {
         return (char) (value + 1);
     }
 }
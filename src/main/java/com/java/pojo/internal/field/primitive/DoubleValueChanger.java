@@ -1,10 +1,27 @@
 package com.java.pojo.internal.field.primitive;
 
+import com.java.pojo.internal.utils.FieldHandle;
 
 class DoubleValueChanger extends AbstractPrimitiveValueChanger<Double> {
 
     @Override
     protected Double increase(final Double value) {
+        return increment(value.doubleValue());
+    }
+
+    @Override
+    protected boolean changePrimitiveFieldValue(final FieldHandle field,
+                                                final Object sourceObject,
+                                                final Object targetObject) {
+        final double sourceValue = field.getDouble(sourceObject);
+        final double targetValue = field.getDouble(targetObject);
+        if (Double.compare(targetValue, sourceValue) == 0) {
+            field.setDouble(targetObject, increment(targetValue));
+        }
+        return true;
+    }
+
+    private static double increment(final double value) {
         return 2 * (value + 1);
     }
 }
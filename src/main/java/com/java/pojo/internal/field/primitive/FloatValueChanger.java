@@ -1,10 +1,27 @@
 package com.java.pojo.internal.field.primitive;
 
+import com.java.pojo.internal.utils.FieldHandle;
 
 class FloatValueChanger extends AbstractPrimitiveValueChanger<Float> {
 
     @Override
     protected Float increase(final Float value) {
+        return increment(value.floatValue());
+    }
+
+    @Override
+    protected boolean changePrimitiveFieldValue(final FieldHandle field,
+                                                final Object sourceObject,
+                                                final Object targetObject) {
+        final float sourceValue = field.getFloat(sourceObject);
+        final float targetValue = field.getFloat(targetObject);
+        if (Float.compare(targetValue, sourceValue) == 0) {
+            field.setFloat(targetObject, increment(targetValue));
+        }
+        return true;
+    }
+
+    private static float increment(final float value) {
         return 2 * (value + 1);
     }
 }
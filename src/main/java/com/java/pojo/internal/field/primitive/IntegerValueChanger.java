@@ -1,9 +1,27 @@
 package com.java.pojo.internal.field.primitive;
 
+import com.java.pojo.internal.utils.FieldHandle;
+
 class IntegerValueChanger extends AbstractPrimitiveValueChanger<Integer> {
 
     @Override
     protected Integer increase(final Integer value) {
+        return increment(value.intValue());
+    }
+
+    @Override
+    protected boolean changePrimitiveFieldValue(final FieldHandle field,
+                                                final Object sourceObject,
+                                                final Object targetObject) {
+        final int sourceValue = field.getInt(sourceObject);
+        final int targetValue = field.getInt(targetObject);
+        if (targetValue == sourceValue) {
+            field.setInt(targetObject, increment(targetValue));
+        }
+        return true;
+    }
+
+    private static int increment(final int value) {
         return value + 1;
     }
 }
@@ -1,10 +1,27 @@
 package com.java.pojo.internal.field.primitive;
 
+import com.java.pojo.internal.utils.FieldHandle;
 
 class LongValueChanger extends AbstractPrimitiveValueChanger<Long> {
 
     @Override
     protected Long increase(final Long value) {
+        return increment(value.longValue());
+    }
+
+    @Override
+    protected boolean changePrimitiveFieldValue(final FieldHandle field,
+                                                final Object sourceObject,
+                                                final Object targetObject) {
+        final long sourceValue = field.getLong(sourceObject);
+        final long targetValue = field.getLong(targetObject);
+        if (targetValue == sourceValue) {
+            field.setLong(targetObject, increment(targetValue));
+        }
+        return true;
+    }
+
+    private static long increment(final long value) {
         return value + 1;
     }
 }
@@ -1,10 +1,27 @@
 package com.java.pojo.internal.field.primitive;
 
+import com.java.pojo.internal.utils.FieldHandle;
 
 class ShortValueChanger extends AbstractPrimitiveValueChanger<Short> {
 
     @Override
     protected Short increase(final Short value) {
+        return increment(value.shortValue());
+    }
+
+    @Override
+    protected boolean changePrimitiveFieldValue(final FieldHandle field,
+                                                final Object sourceObject,
+                                                final Object targetObject) {
+        final short sourceValue = field.getShort(sourceObject);
+        final short targetValue = field.getShort(targetObject);
+        if (targetValue == sourceValue) {
+            field.setShort(targetObject, increment(targetValue));
+        }
+        return true;
+    }
+
+    private static short increment(final short value) {
         return (short) (value + 1);
     }
 }
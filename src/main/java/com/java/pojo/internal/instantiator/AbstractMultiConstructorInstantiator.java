@@ -2,10 +2,8 @@ package com.java.pojo.internal.instantiator;
 
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Objects;
 import java.util.stream.Stream;
 
 import org.apache.commons.collections4.MultiValuedMap;
@@ -13,6 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.java.pojo.api.ConstructorParameters;
+import com.java.pojo.internal.utils.ClassMetadata;
 import com.java.pojo.internal.utils.CollectionUtils;
 
 
@@ -21,8 +20,9 @@ abstract class AbstractMultiConstructorInstantiator extends AbstractObjectInstan
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractMultiConstructorInstantiator.class);
 
     AbstractMultiConstructorInstantiator(final Class<?> clazz,
-                                         final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters) {
-        super(clazz, constructorParameters);
+                                         final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters,
+                                         final InstantiationContext instantiationContext) {
+        super(clazz, constructorParameters, instantiationContext);
     }
 
     protected Object instantiateUsingUserParameters() {
@@ -48,7 +48,7 @@ abstract class AbstractMultiConstructorInstantiator extends AbstractObjectInstan
             try {
                 Object[] parameters = param.getParameters();
                 if (isInnerClass()) {
-                    parameterTypes = putEnclosingClassAsFirstParameterType(clazz.getEnclosingClass(), parameterTypes);
+                    parameterTypes = putEnclosingClassAsFirstParameterType(getEnclosingClass(), parameterTypes);
                     final Object enclosingClassInstance = instantiateEnclosingClass();
                     parameters = putEnclosingClassInstanceAsFirstParameter(enclosingClassInstance, parameters);
                 }
@@ -62,12 +62,24 @@ abstract class AbstractMultiConstructorInstantiator extends AbstractObjectInstan
     }
 
     protected Object createFindingBestConstructor() {
-        final Constructor<?>[] constructors = clazz.getDeclaredConstructors();
-        return Arrays.stream(constructors)
-                     .map(this::createObjectFromConstructor)
-                     .filter(Objects::nonNull)
-                     .findAny()
-                     .orElseThrow(this::createObjectInstantiationException);
+        final InstantiationPlan plan = instantiationContext.recordedPlanFor(clazz);
+        if (plan != null) {
+            final Object result = createObjectFromConstructor(plan.getConstructor());
+            if (result != null) {
+                return result;
+            }
+            LOGGER.debug("Could not replay instantiation plan of class {}. Trying all constructors.", clazz);
+            instantiationContext.forgetPlan(clazz, plan);
+        }
+        for (final Constructor<?> constructor : ClassMetadata.of(clazz)
+                                                             .getDeclaredConstructors()) {
+            final Object result = createObjectFromConstructor(constructor);
+            if (result != null) {
+                instantiationContext.recordPlan(clazz, constructor);
+                return result;
+            }
+        }
+        throw createObjectInstantiationException();
     }
 
     protected abstract Object createObjectFromArgsConstructor(final Class<?>[] parameterTypes, Object[] parameters);
@@ -77,11 +89,15 @@ abstract class AbstractMultiConstructorInstantiator extends AbstractObjectInstan
     protected abstract ObjectInstantiationException createObjectInstantiationException();
 
     private Object instantiateEnclosingClass() {
-    	final Class<?> enclosingClass = clazz.getEnclosingClass();
-        return Instantiable.forClass(enclosingClass, constructorParameters)
+        return Instantiable.forClass(getEnclosingClass(), constructorParameters, instantiationContext)
                            .instantiate();
     }
 
+    private Class<?> getEnclosingClass() {
+        return ClassMetadata.of(clazz)
+                            .getEnclosingClass();
+    }
+
 
     private Class[] putEnclosingClassAsFirstParameterType(final Class<?> enclosingClass,
                                                           final Class<?>[] constructorParametersTypes) {
@@ -90,7 +106,8 @@ abstract class AbstractMultiConstructorInstantiator extends AbstractObjectInstan
     }
 
     private boolean isInnerClass() {
-        return clazz.getEnclosingClass() != null && !Modifier.isStatic(clazz.getModifiers());
+        return ClassMetadata.of(clazz)
+                            .isInnerClass();
     }
 
     private Object[] putEnclosingClassInstanceAsFirstParameter(final Object enclosingClassInstance,
@@ -105,7 +122,8 @@ abstract class AbstractMultiConstructorInstantiator extends AbstractObjectInstan
         } else {
             try {
                 final Object[] parameters = Instantiable.instantiateClasses(constructor.getParameterTypes(),
-                                                                            constructorParameters);
+                                                                            constructorParameters,
+                                                                            instantiationContext);
                 return createObjectFromArgsConstructor(constructor.getParameterTypes(), parameters);
             } catch (final Exception e) {
                 LOGGER.debug("Exception:", e);
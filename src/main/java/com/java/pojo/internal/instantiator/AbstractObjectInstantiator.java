@@ -7,11 +7,14 @@ abstract class AbstractObjectInstantiator {
 
     protected final Class<?> clazz;
     protected final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters;
+    protected final InstantiationContext instantiationContext;
 
     AbstractObjectInstantiator(final Class<?> clazz,
-                               final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters) {
+                               final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters,
+                               final InstantiationContext instantiationContext) {
         this.clazz = clazz;
         this.constructorParameters = constructorParameters;
+        this.instantiationContext = instantiationContext;
     }
 
     public abstract Object instantiate();
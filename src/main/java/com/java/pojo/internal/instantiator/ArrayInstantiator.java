@@ -10,8 +10,9 @@ class ArrayInstantiator extends AbstractObjectInstantiator {
     private static final int DEFAULT_ARRAY_LENGTH = 0;
 
     ArrayInstantiator(final Class<?> clazz,
-                      final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters) {
-        super(clazz, constructorParameters);
+                      final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters,
+                      final InstantiationContext instantiationContext) {
+        super(clazz, constructorParameters, instantiationContext);
     }
 
     @Override
@@ -1,13 +1,11 @@
 package com.java.pojo.internal.instantiator;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 
 import org.apache.commons.collections4.MultiValuedMap;
 
 import com.java.pojo.api.ConstructorParameters;
+import com.java.pojo.internal.utils.ConstructorHandle;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -15,8 +13,9 @@ import lombok.extern.slf4j.Slf4j;
 class BestConstructorInstantiator extends AbstractMultiConstructorInstantiator {
 
 	BestConstructorInstantiator(final Class<?> clazz,
-			final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters) {
-		super(clazz, constructorParameters);
+			final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters,
+			final InstantiationContext instantiationContext) {
+		super(clazz, constructorParameters, instantiationContext);
 	}
 
 	@Override
@@ -42,18 +41,8 @@ class BestConstructorInstantiator extends AbstractMultiConstructorInstantiator {
 	@Override
 	protected Object createObjectFromArgsConstructor(final Class<?>[] parameterTypes, final Object[] parameters) {
 	    try {
-	        final Constructor<?> declaredConstructor = clazz.getDeclaredConstructor(parameterTypes);
-
-	        if (!declaredConstructor.canAccess(null)) {
-	            // Use MethodHandles for private constructor access
-	            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
-	            MethodType methodType = MethodType.methodType(void.class, parameterTypes);
-	            MethodHandle constructorHandle = lookup.findConstructor(clazz, methodType);
-	            return constructorHandle.invokeWithArguments(parameters);
-	        } else {
-	            // Use reflection for accessible constructors
-	            return declaredConstructor.newInstance(parameters);
-	        }
+	        return ConstructorHandle.find(clazz, parameterTypes)
+	                                .newInstance(parameters);
 	    } catch (Throwable e) {
 	        throw new ObjectInstantiationException(clazz, "Could not create object from args constructor",
 	                parameterTypes, parameters, e);
@@ -63,17 +52,8 @@ class BestConstructorInstantiator extends AbstractMultiConstructorInstantiator {
 	@Override
 	protected Object createObjectFromNoArgsConstructor(final Constructor<?> constructor) {
 		try {
-			if (!constructor.canAccess(null)) {
-				// Use MethodHandles for private constructor access
-				MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(constructor.getDeclaringClass(),
-						MethodHandles.lookup());
-				MethodHandle constructorHandle = lookup.findConstructor(constructor.getDeclaringClass(),
-						MethodType.methodType(void.class));
-				return constructorHandle.invoke();
-			} else {
-				// Use reflection for accessible constructors
-				return constructor.newInstance();
-			}
+			return ConstructorHandle.of(constructor)
+			                        .newInstance();
 		} catch (Throwable e) {
 			log.debug("Exception:", e);
 			// Ignore, we want to try all constructors
@@ -59,8 +59,9 @@ class CollectionInstantiator extends AbstractObjectInstantiator {
     }
 
     CollectionInstantiator(final Class<?> clazz,
-                           final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters) {
-        super(clazz, constructorParameters);
+                           final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters,
+                           final InstantiationContext instantiationContext) {
+        super(clazz, constructorParameters, instantiationContext);
     }
 
     @Override
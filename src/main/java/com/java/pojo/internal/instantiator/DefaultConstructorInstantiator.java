@@ -15,8 +15,9 @@ import java.util.Arrays;
 class DefaultConstructorInstantiator extends AbstractObjectInstantiator {
 
     DefaultConstructorInstantiator(final Class<?> clazz,
-                                   final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters) {
-        super(clazz, constructorParameters);
+                                   final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters,
+                                   final InstantiationContext instantiationContext) {
+        super(clazz, constructorParameters, instantiationContext);
     }
 
     @Override
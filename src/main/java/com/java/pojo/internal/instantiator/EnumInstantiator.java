@@ -9,8 +9,9 @@ import java.util.Random;
 class EnumInstantiator extends AbstractObjectInstantiator {
 
     EnumInstantiator(final Class<?> clazz,
-                     final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters) {
-        super(clazz, constructorParameters);
+                     final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters,
+                     final InstantiationContext instantiationContext) {
+        super(clazz, constructorParameters, instantiationContext);
     }
 
     @Override
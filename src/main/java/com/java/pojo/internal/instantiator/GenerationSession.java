@@ -0,0 +1,199 @@
+package com.java.pojo.internal.instantiator;
+
+import com.java.pojo.api.ClassAndFieldPredicatePair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Different objects generated during a single test run, shared by all testers of that run.
+ * <p>
+ * Testers often generate the same objects: equals and hash code testers both need them for the same classes, fields
+ * and nested classes. Generators using the same session generate each set of objects once, as long as they are set up
+ * with the same permutator, field value changer, nested objects combination and constructor parameters. Fields are
+ * told apart by equality of their predicates, so predicates created by {@code FieldPredicate} and their negations
+ * match, while any other predicate matches only itself.
+ * <p>
+ * Dependency graphs of nested classes, with objects generated for them, are kept the same way, so every base class
+ * tested with the same classes reuses objects of its nested classes.
+ * <p>
+ * Sets of different objects are recorded while the first consumer iterates over them, so they are still generated
+ * lazily. A set is kept only if, together with all objects kept so far, it has no more than {@code maxObjects}
+ * objects. Otherwise it is dropped as soon as the limit is reached and generated again, lazily, for each next consumer.
+ * Objects of a nested class are counted against the same limit: if they do not fit, the graph does not keep them, and
+ * they live only as long as generation of objects that needed them. A session therefore never holds more objects than
+ * its limit. A session keeps every set of objects until it is closed, so it
+ * should not outlive the run it was created for. It is not thread-safe.
+ */
+public class GenerationSession implements AutoCloseable {
+
+    static final int DEFAULT_MAX_OBJECTS = 4096;
+
+    private final int maxObjects;
+    private final Map<Key, List<Object>> differentObjects = new HashMap<>();
+    private final Set<Key> tooManyObjects = new HashSet<>();
+    private final Map<Key, NestedTypeGraph> nestedTypeGraphs = new HashMap<>();
+    private int heldObjects;
+
+    public GenerationSession() {
+        this(DEFAULT_MAX_OBJECTS);
+    }
+
+    GenerationSession(final int maxObjects) {
+        this.maxObjects = maxObjects;
+    }
+
+    /**
+     * @return objects kept for given key, or objects generated by {@code generator}, which are kept if they fit in the
+     * limit once iterated over
+     */
+    Iterator<Object> differentObjects(final Key key, final Supplier<Stream<Object>> generator) {
+        final List<Object> objects = differentObjects.get(key);
+        if (objects != null) {
+            return objects.iterator();
+        }
+        final Iterator<Object> generatedObjects = generator.get()
+                                                           .iterator();
+        return tooManyObjects.contains(key)
+               ? generatedObjects
+               : new RecordingIterator(key, generatedObjects);
+    }
+
+    NestedTypeGraph nestedTypeGraph(final Key key, final Supplier<NestedTypeGraph> builder) {
+        NestedTypeGraph nestedTypeGraph = nestedTypeGraphs.get(key);
+        if (nestedTypeGraph == null) {
+            nestedTypeGraph = builder.get();
+            nestedTypeGraphs.put(key, nestedTypeGraph);
+        }
+        return nestedTypeGraph;
+    }
+
+    /**
+     * @return {@code true} if given number of objects fits in the limit, in which case it is counted as held
+     */
+    boolean hold(final int objects) {
+        if (heldObjects + objects > maxObjects) {
+            return false;
+        }
+        heldObjects += objects;
+        return true;
+    }
+
+    int size() {
+        return differentObjects.size() + nestedTypeGraphs.size();
+    }
+
+    int getHeldObjects() {
+        return heldObjects;
+    }
+
+    /**
+     * Releases all objects generated during this session.
+     */
+    @Override
+    public void close() {
+        differentObjects.clear();
+        tooManyObjects.clear();
+        nestedTypeGraphs.clear();
+        heldObjects = 0;
+    }
+
+    private final class RecordingIterator implements Iterator<Object> {
+
+        private final Key key;
+        private final Iterator<Object> objects;
+        private List<Object> recordedObjects = new ArrayList<>();
+
+        private RecordingIterator(final Key key, final Iterator<Object> objects) {
+            this.key = key;
+            this.objects = objects;
+        }
+
+        @Override
+        public boolean hasNext() {
+            final boolean hasNext = objects.hasNext();
+            if (!hasNext && recordedObjects != null) {
+                differentObjects.put(key, recordedObjects);
+                heldObjects += recordedObjects.size();
+                recordedObjects = null;
+            }
+            return hasNext;
+        }
+
+        @Override
+        public Object next() {
+            final Object object = objects.next();
+            if (recordedObjects != null) {
+                if (heldObjects + recordedObjects.size() < maxObjects) {
+                    recordedObjects.add(object);
+                } else {
+                    recordedObjects = null;
+                    tooManyObjects.add(key);
+                }
+            }
+            return object;
+        }
+    }
+
+    static final class Key {
+
+        private final List<Object> classesAndFieldPredicates;
+        private final List<Object> generatorSettings;
+
+        Key(final ClassAndFieldPredicatePair baseClassAndFieldPredicatePair,
+            final ClassAndFieldPredicatePair[] classAndFieldPredicatePairs,
+            final Object... generatorSettings) {
+            this(withBase(baseClassAndFieldPredicatePair, classAndFieldPredicatePairs), generatorSettings);
+        }
+
+        Key(final List<ClassAndFieldPredicatePair> classAndFieldPredicatePairs, final Object... generatorSettings) {
+            this.classesAndFieldPredicates = new ArrayList<>();
+            for (final ClassAndFieldPredicatePair classAndFieldPredicatePair : classAndFieldPredicatePairs) {
+                this.classesAndFieldPredicates.add(classAndFieldPredicate(classAndFieldPredicatePair));
+            }
+            this.generatorSettings = Arrays.asList(generatorSettings);
+        }
+
+        private static List<ClassAndFieldPredicatePair> withBase(final ClassAndFieldPredicatePair baseClassAndFieldPredicatePair,
+                                                                 final ClassAndFieldPredicatePair[] classAndFieldPredicatePairs) {
+            final List<ClassAndFieldPredicatePair> classes = new ArrayList<>();
+            classes.add(baseClassAndFieldPredicatePair);
+            classes.addAll(Arrays.asList(classAndFieldPredicatePairs));
+            return classes;
+        }
+
+        private static List<Object> classAndFieldPredicate(final ClassAndFieldPredicatePair classAndFieldPredicatePair) {
+            final Class<?> clazz = classAndFieldPredicatePair.getClazz();
+            final Predicate<String> fieldsPredicate = classAndFieldPredicatePair.getFieldsPredicate();
+            return Arrays.asList(clazz, fieldsPredicate);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return classesAndFieldPredicates.equals(that.classesAndFieldPredicates)
+                   && generatorSettings.equals(that.generatorSettings);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(classesAndFieldPredicates, generatorSettings);
+        }
+    }
+}
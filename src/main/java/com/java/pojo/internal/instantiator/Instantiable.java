@@ -4,75 +4,73 @@ package com.java.pojo.internal.instantiator;
 import org.apache.commons.collections4.MultiValuedMap;
 import com.java.pojo.api.ConstructorParameters;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
-import java.lang.reflect.Constructor;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 
 public final class Instantiable {
 
-    private static final List<Class<? extends AbstractObjectInstantiator>> INSTANTIATORS;
+    private static final List<InstantiatorFactory> INSTANTIATORS = List.of(UserDefinedConstructorInstantiator::new,
+                                                                           JavaTypeInstantiator::new,
+                                                                           CollectionInstantiator::new,
+                                                                           DefaultConstructorInstantiator::new,
+                                                                           EnumInstantiator::new,
+                                                                           ArrayInstantiator::new,
+                                                                           ProxyInstantiator::new,
+                                                                           BestConstructorInstantiator::new);
 
-    static {
-        INSTANTIATORS = new LinkedList<>();
-        INSTANTIATORS.add(UserDefinedConstructorInstantiator.class);
-        INSTANTIATORS.add(JavaTypeInstantiator.class);
-        INSTANTIATORS.add(CollectionInstantiator.class);
-        INSTANTIATORS.add(DefaultConstructorInstantiator.class);
-        INSTANTIATORS.add(EnumInstantiator.class);
-        INSTANTIATORS.add(ArrayInstantiator.class);
-        INSTANTIATORS.add(ProxyInstantiator.class);
-        INSTANTIATORS.add(BestConstructorInstantiator.class);
-    }
+    private static final int WITHOUT_USER_DEFINED_PARAMETERS = 0;
+    private static final int WITH_USER_DEFINED_PARAMETERS = 1;
+
+    /**
+     * Winning instantiator per class. Whether an instantiator can create a class depends only on the class itself and
+     * on whether user defined constructor parameters were registered for it, so each class has two slots.
+     */
+    private static final ClassValue<InstantiatorFactory[]> SELECTED_INSTANTIATORS = new ClassValue<InstantiatorFactory[]>() {
+        @Override
+        protected InstantiatorFactory[] computeValue(final Class<?> type) {
+            return new InstantiatorFactory[2];
+        }
+    };
 
     private Instantiable() {
     }
 
     static Object[] instantiateClasses(final Class<?>[] classes,
-                                       final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters) {
+                                       final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters,
+                                       final InstantiationContext instantiationContext) {
         return Arrays.stream(classes)
-                     .map(clazz -> Instantiable.forClass(clazz, constructorParameters))
+                     .map(clazz -> Instantiable.forClass(clazz, constructorParameters, instantiationContext))
                      .map(AbstractObjectInstantiator::instantiate)
                      .toArray();
     }
 
     static AbstractObjectInstantiator forClass(final Class<?> clazz,
-                                               final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters) {
-        return instantiateInstantiators(clazz, constructorParameters).stream()
-                                                                     .filter(AbstractObjectInstantiator::canInstantiate)
-                                                                     .findAny()
-                                                                     .get();
-    }
-
-    private static List<AbstractObjectInstantiator> instantiateInstantiators(
-            final Class<?> clazz,
-            final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters) {
-        final List<AbstractObjectInstantiator> instantiators = new ArrayList<>();
-        try {
-            for (final Class<? extends AbstractObjectInstantiator> instantiator : INSTANTIATORS) {
-                Constructor<? extends AbstractObjectInstantiator> constructor = instantiator.getDeclaredConstructor(Class.class, MultiValuedMap.class);
-
-                if (!constructor.canAccess(null)) {
-                    // Use MethodHandles for private constructor access
-                    MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(instantiator, MethodHandles.lookup());
-                    MethodHandle constructorHandle = lookup.findConstructor(instantiator,
-                            MethodType.methodType(void.class, Class.class, MultiValuedMap.class));
-                    AbstractObjectInstantiator abstractObjectInstantiator = (AbstractObjectInstantiator) constructorHandle.invoke(clazz, constructorParameters);
-                    instantiators.add(abstractObjectInstantiator);
-                } else {
-                    // Use reflection for accessible constructors
-                    instantiators.add(constructor.newInstance(clazz, constructorParameters));
-                }
+                                               final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters,
+                                               final InstantiationContext instantiationContext) {
+        final InstantiatorFactory[] selected = SELECTED_INSTANTIATORS.get(clazz);
+        final int slot = constructorParameters.containsKey(clazz)
+                         ? WITH_USER_DEFINED_PARAMETERS
+                         : WITHOUT_USER_DEFINED_PARAMETERS;
+        final InstantiatorFactory factory = selected[slot];
+        if (factory != null) {
+            return factory.create(clazz, constructorParameters, instantiationContext);
+        }
+        for (final InstantiatorFactory eachFactory : INSTANTIATORS) {
+            final AbstractObjectInstantiator instantiator = eachFactory.create(clazz,
+                                                                               constructorParameters,
+                                                                               instantiationContext);
+            if (instantiator.canInstantiate()) {
+                selected[slot] = eachFactory;
+                return instantiator;
             }
-        } catch (final Throwable e) {
-            throw new RuntimeException("Cannot load instantiators from com.java.pojo.internal.instantiator package.", e);
         }
-        return instantiators;
+        throw new ObjectInstantiationException(clazz, "There is no instantiator able to create this class.");
     }
 
-
+    @FunctionalInterface
+    private interface InstantiatorFactory {
+        AbstractObjectInstantiator create(Class<?> clazz,
+                                          MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters,
+                                          InstantiationContext instantiationContext);
+    }
 }
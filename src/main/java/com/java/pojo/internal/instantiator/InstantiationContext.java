@@ -0,0 +1,63 @@
+package com.java.pojo.internal.instantiator;
+
+
+import java.lang.reflect.Constructor;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * State of instantiation that belongs to a single object generator.
+ * <p>
+ * Values of java types come from shared {@link Prototypes}. Values of identifier types are drawn from a sequence
+ * started at a seed, so every instantiation gets a distinct value, but the same seed always gives the same sequence.
+ * The sequence belongs to the context, so values depend only on the seed and on the values drawn before by the same
+ * generator. Instantiation plans of classes are kept here as well, see {@link InstantiationPlan}. The context is not
+ * thread-safe.
+ */
+final class InstantiationContext {
+
+    static final long DEFAULT_SEED = 20170615L;
+
+    private final Prototypes prototypes;
+    private final long seed;
+    private final Map<Class<?>, InstantiationPlan> instantiationPlans = new HashMap<>();
+    private long uuidSequence;
+
+    InstantiationContext() {
+        this(Prototypes.DEFAULT_CLOCK, DEFAULT_SEED);
+    }
+
+    InstantiationContext(final Clock clock, final long seed) {
+        this.prototypes = Prototypes.of(clock);
+        this.seed = seed;
+        this.uuidSequence = seed;
+    }
+
+    boolean canInstantiateJavaType(final Class<?> type) {
+        return UUID.class.equals(type) || prototypes.contains(type);
+    }
+
+    Object instantiateJavaType(final Class<?> type) {
+        return UUID.class.equals(type)
+               ? new UUID(seed, uuidSequence++)
+               : prototypes.get(type);
+    }
+
+    InstantiationPlan recordedPlanFor(final Class<?> clazz) {
+        return instantiationPlans.get(clazz);
+    }
+
+    void recordPlan(final Class<?> clazz, final Constructor<?> constructor) {
+        final InstantiationPlan current = instantiationPlans.get(clazz);
+        if (current == null || !current.getConstructor()
+                                       .equals(constructor)) {
+            instantiationPlans.put(clazz, new InstantiationPlan(constructor));
+        }
+    }
+
+    void forgetPlan(final Class<?> clazz, final InstantiationPlan failedPlan) {
+        instantiationPlans.remove(clazz, failedPlan);
+    }
+}
@@ -0,0 +1,26 @@
+package com.java.pojo.internal.instantiator;
+
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Record of the constructor that last created an instance of a class when the best constructor had to be found.
+ * <p>
+ * Replaying a plan calls the recorded constructor directly instead of trying every declared one. Arguments are created
+ * through {@link Instantiable}, so each argument type replays its own plan, and together the plans form a path through
+ * the whole object graph. Which constructors can create an instance depends on user defined constructor parameters, so
+ * plans are kept per class in the {@link InstantiationContext} of a single generator, which has fixed parameters, and
+ * are dropped together with it.
+ */
+final class InstantiationPlan {
+
+    private final Constructor<?> constructor;
+
+    InstantiationPlan(final Constructor<?> constructor) {
+        this.constructor = constructor;
+    }
+
+    Constructor<?> getConstructor() {
+        return constructor;
+    }
+}
@@ -0,0 +1,47 @@
+package com.java.pojo.internal.instantiator;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+final class LimitedNestedObjectsCombination implements NestedObjectsCombination {
+
+    private final NestedObjectsCombination combination;
+    private final int maxCombinations;
+
+    LimitedNestedObjectsCombination(final NestedObjectsCombination combination, final int maxCombinations) {
+        if (maxCombinations < 1) {
+            throw new IllegalArgumentException("Maximum number of combinations must be at least 1, got "
+                                               + maxCombinations);
+        }
+        this.combination = combination;
+        this.maxCombinations = maxCombinations;
+    }
+
+    @Override
+    public Stream<int[]> combine(final int[] variantCounts) {
+        return combination.combine(variantCounts)
+                          .limit(maxCombinations);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final LimitedNestedObjectsCombination that = (LimitedNestedObjectsCombination) o;
+        return maxCombinations == that.maxCombinations && combination.equals(that.combination);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(combination, maxCombinations);
+    }
+
+    @Override
+    public String toString() {
+        return combination + " limited to " + maxCombinations;
+    }
+}
@@ -0,0 +1,52 @@
+package com.java.pojo.internal.instantiator;
+
+import java.util.stream.Stream;
+
+/**
+ * Strategy choosing which objects generated for nested fields are set together into copies of a base object.
+ * <p>
+ * Each nested field has a list of generated objects, its variants. The strategy produces combinations, each holding an
+ * index of variant for every nested field, and every combination becomes one copy of the base object.
+ */
+public interface NestedObjectsCombination {
+
+    /**
+     * @param variantCounts number of variants of each nested field, each at least one
+     * @return combinations of variants, {@code i}-th element of a combination is index of variant of {@code i}-th field
+     */
+    Stream<int[]> combine(final int[] variantCounts);
+
+    /**
+     * Creates strategy producing at most {@code maxCombinations} of combinations produced by this strategy.
+     *
+     * @param maxCombinations maximum number of combinations, at least one
+     * @return limited strategy
+     * @throws IllegalArgumentException if {@code maxCombinations} is lower than one
+     */
+    default NestedObjectsCombination limitedTo(final int maxCombinations) {
+        return new LimitedNestedObjectsCombination(this, maxCombinations);
+    }
+
+    /**
+     * Every variant of every field with every variant of all other fields. The number of copies is the product of
+     * numbers of variants.
+     */
+    static NestedObjectsCombination cartesian() {
+        return NestedObjectsCombinations.CARTESIAN;
+    }
+
+    /**
+     * Every variant of every field at least once. The number of copies is the highest number of variants.
+     */
+    static NestedObjectsCombination eachVariantOnce() {
+        return NestedObjectsCombinations.EACH_VARIANT_ONCE;
+    }
+
+    /**
+     * Every variant of every field with every variant of each other field. The number of copies grows with the two
+     * highest numbers of variants and logarithmically with the number of fields.
+     */
+    static NestedObjectsCombination pairwise() {
+        return NestedObjectsCombinations.PAIRWISE;
+    }
+}
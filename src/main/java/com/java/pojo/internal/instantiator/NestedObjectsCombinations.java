@@ -0,0 +1,67 @@
+package com.java.pojo.internal.instantiator;
+
+import com.java.pojo.internal.utils.CoveringArrays;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+enum NestedObjectsCombinations implements NestedObjectsCombination {
+
+    CARTESIAN {
+        @Override
+        public Stream<int[]> combine(final int[] variantCounts) {
+            long combinations = 1;
+            for (final int variantCount : variantCounts) {
+                combinations = multiplySaturated(combinations, variantCount);
+            }
+            return LongStream.range(0, combinations)
+                             .mapToObj(combination -> digitsOf(combination, variantCounts));
+        }
+    },
+
+    EACH_VARIANT_ONCE {
+        @Override
+        public Stream<int[]> combine(final int[] variantCounts) {
+            final int combinations = IntStream.of(variantCounts)
+                                              .max()
+                                              .orElse(1);
+            return IntStream.range(0, combinations)
+                            .mapToObj(combination -> IntStream.of(variantCounts)
+                                                              .map(variantCount -> combination % variantCount)
+                                                              .toArray());
+        }
+    },
+
+    PAIRWISE {
+        @Override
+        public Stream<int[]> combine(final int[] variantCounts) {
+            if (variantCounts.length == 0) {
+                return Stream.<int[]>of(new int[0]);
+            }
+            return CoveringArrays.of(variantCounts, 2)
+                                 .stream();
+        }
+    };
+
+    /**
+     * @return digits of {@code number} in mixed radix given by {@code radixes}, the last digit changing fastest
+     */
+    private static int[] digitsOf(final long number, final int[] radixes) {
+        final int[] digits = new int[radixes.length];
+        long remaining = number;
+        for (int i = radixes.length - 1; i >= 0; i--) {
+            digits[i] = (int) (remaining % radixes[i]);
+            remaining /= radixes[i];
+        }
+        return digits;
+    }
+
+    private static long multiplySaturated(final long first, final long second) {
+        final long high = Math.multiplyHigh(first, second);
+        final long product = first * second;
+        return high != 0 || product < 0
+               ? Long.MAX_VALUE
+               : product;
+    }
+}
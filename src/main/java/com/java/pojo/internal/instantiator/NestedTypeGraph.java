@@ -0,0 +1,225 @@
+package com.java.pojo.internal.instantiator;
+
+import com.java.pojo.api.ClassAndFieldPredicatePair;
+import com.java.pojo.internal.utils.FieldUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Dependency graph of classes whose objects are generated together, built once for a set of classes and field
+ * predicates.
+ * <p>
+ * A class depends on another one when one of its fields to change has the type of that class. Fields to change are
+ * read once for every class. When classes depend on each other in a cycle, the dependency closing the cycle, as found
+ * by a depth-first search starting from the base class, is dropped, and fields of that type are changed like fields of
+ * any other type. Dependencies of the base class are therefore never dropped. A class never depends on itself, so the
+ * graph has no cycles.
+ * <p>
+ * Without cycles the dependencies do not depend on the base class, so the same graph serves every base class. With
+ * cycles, {@link #rootedAt(Class)} gives a graph for another base class, sharing fields to change with this one.
+ * <p>
+ * Objects generated for a nested class are kept in the graph and reused by every class containing it. They are
+ * generated the first time a class containing them needs them, after objects of all classes they depend on, which
+ * gives topological order of generation. Objects are kept only if their object budget lets them in. Objects that do
+ * not fit are kept by the graph given by {@link #forGeneration()} instead, and dropped together with it.
+ */
+final class NestedTypeGraph {
+
+    private final Map<Class<?>, Predicate<String>> fieldPredicates;
+    private final Map<Class<?>, List<Field>> fieldsToChange;
+    private final Class<?> baseClass;
+    private final IntPredicate objectBudget;
+    private final Map<Class<?>, Set<Class<?>>> dependencies;
+    private final Map<Class<?>, List<Object>> keptNestedObjects;
+    private final Map<Class<?>, List<Object>> nestedObjects = new HashMap<>();
+    private final Map<Class<?>, NestedTypeGraph> rootedGraphs;
+    private boolean hasCycles;
+
+    private NestedTypeGraph(final Map<Class<?>, Predicate<String>> fieldPredicates,
+                            final Map<Class<?>, List<Field>> fieldsToChange,
+                            final Class<?> baseClass,
+                            final IntPredicate objectBudget) {
+        this.fieldPredicates = fieldPredicates;
+        this.fieldsToChange = fieldsToChange;
+        this.baseClass = baseClass;
+        this.objectBudget = objectBudget;
+        this.dependencies = new HashMap<>();
+        this.keptNestedObjects = new HashMap<>();
+        this.rootedGraphs = new HashMap<>();
+        final Set<Class<?>> visited = new HashSet<>();
+        final Set<Class<?>> onPath = new HashSet<>();
+        visit(baseClass, visited, onPath);
+        fieldPredicates.keySet()
+                       .forEach(clazz -> visit(clazz, visited, onPath));
+    }
+
+    private NestedTypeGraph(final NestedTypeGraph nestedTypeGraph) {
+        this.fieldPredicates = nestedTypeGraph.fieldPredicates;
+        this.fieldsToChange = nestedTypeGraph.fieldsToChange;
+        this.baseClass = nestedTypeGraph.baseClass;
+        this.objectBudget = nestedTypeGraph.objectBudget;
+        this.dependencies = nestedTypeGraph.dependencies;
+        this.keptNestedObjects = nestedTypeGraph.keptNestedObjects;
+        this.rootedGraphs = nestedTypeGraph.rootedGraphs;
+        this.hasCycles = nestedTypeGraph.hasCycles;
+    }
+
+    /**
+     * Builds graph of given classes. Base class, if present among other classes, uses its own field predicate.
+     *
+     * @throws IllegalStateException if any of other classes is given more than once
+     */
+    static NestedTypeGraph of(final ClassAndFieldPredicatePair baseClassAndFieldPredicatePair,
+                              final ClassAndFieldPredicatePair[] classAndFieldPredicatePairs) {
+        return of(baseClassAndFieldPredicatePair, classAndFieldPredicatePairs, objects -> true);
+    }
+
+    /**
+     * Builds graph of given classes, which keeps generated objects only if {@code objectBudget} accepts their number.
+     *
+     * @throws IllegalStateException if any of other classes is given more than once
+     */
+    static NestedTypeGraph of(final ClassAndFieldPredicatePair baseClassAndFieldPredicatePair,
+                              final ClassAndFieldPredicatePair[] classAndFieldPredicatePairs,
+                              final IntPredicate objectBudget) {
+        final Map<Class<?>, Predicate<String>> fieldPredicates = fieldPredicatesOf(baseClassAndFieldPredicatePair,
+                                                                                   classAndFieldPredicatePairs);
+        final Map<Class<?>, List<Field>> fieldsToChange = new HashMap<>();
+        fieldPredicates.forEach((clazz, fieldPredicate) -> fieldsToChange.put(clazz,
+                                                                             FieldUtils.getFields(clazz,
+                                                                                                  fieldPredicate)));
+        return new NestedTypeGraph(fieldPredicates,
+                                   fieldsToChange,
+                                   baseClassAndFieldPredicatePair.getClazz(),
+                                   objectBudget);
+    }
+
+    /**
+     * @return graph of the same classes, whose dependencies are found starting from {@code clazz}
+     */
+    NestedTypeGraph rootedAt(final Class<?> clazz) {
+        if (!hasCycles || baseClass.equals(clazz)) {
+            return this;
+        }
+        return rootedGraphs.computeIfAbsent(clazz,
+                                            root -> new NestedTypeGraph(fieldPredicates,
+                                                                        fieldsToChange,
+                                                                        root,
+                                                                        objectBudget));
+    }
+
+    /**
+     * @return the same graph, sharing objects kept in this one, which keeps objects that do not fit in the object
+     * budget until it is dropped
+     */
+    NestedTypeGraph forGeneration() {
+        return new NestedTypeGraph(this);
+    }
+
+    /**
+     * @return classes with their field predicates, as the graph of given classes uses them
+     */
+    static List<ClassAndFieldPredicatePair> classesOf(final ClassAndFieldPredicatePair baseClassAndFieldPredicatePair,
+                                                      final ClassAndFieldPredicatePair[] classAndFieldPredicatePairs) {
+        final List<ClassAndFieldPredicatePair> classes = new ArrayList<>();
+        fieldPredicatesOf(baseClassAndFieldPredicatePair, classAndFieldPredicatePairs)
+                .forEach((clazz, fieldPredicate) -> classes.add(new ClassAndFieldPredicatePair(clazz, fieldPredicate)));
+        return classes;
+    }
+
+    Predicate<String> getFieldPredicate(final Class<?> clazz) {
+        return fieldPredicates.get(clazz);
+    }
+
+    List<Field> getFieldsToChange(final Class<?> clazz) {
+        return fieldsToChange.get(clazz);
+    }
+
+    /**
+     * @return {@code true} if objects of {@code clazz} have to be generated as nested objects of {@code owner}
+     */
+    boolean isNested(final Class<?> owner, final Class<?> clazz) {
+        final Set<Class<?>> ownerDependencies = dependencies.get(owner);
+        return ownerDependencies != null && ownerDependencies.contains(clazz);
+    }
+
+    /**
+     * @return {@code true} if any field to change of {@code clazz} has the type of a class of this graph
+     */
+    boolean hasNestedFieldsToChange(final Class<?> clazz) {
+        return fieldsToChange.get(clazz)
+                             .stream()
+                             .map(Field::getType)
+                             .anyMatch(fieldPredicates::containsKey);
+    }
+
+    /**
+     * @return objects of {@code clazz} generated by {@code generator} the first time they were needed
+     */
+    List<Object> nestedObjectsOf(final Class<?> clazz, final Function<Class<?>, List<Object>> generator) {
+        List<Object> objects = keptNestedObjects.get(clazz);
+        if (objects == null) {
+            objects = nestedObjects.get(clazz);
+        }
+        if (objects == null) {
+            objects = generator.apply(clazz);
+            if (objectBudget.test(objects.size())) {
+                keptNestedObjects.put(clazz, objects);
+            } else {
+                nestedObjects.put(clazz, objects);
+            }
+        }
+        return objects;
+    }
+
+    boolean hasNestedObjectsOf(final Class<?> clazz) {
+        return keptNestedObjects.containsKey(clazz) || nestedObjects.containsKey(clazz);
+    }
+
+    private void visit(final Class<?> clazz, final Set<Class<?>> visited, final Set<Class<?>> onPath) {
+        if (!visited.add(clazz)) {
+            return;
+        }
+        onPath.add(clazz);
+        final Set<Class<?>> clazzDependencies = new LinkedHashSet<>();
+        for (final Field field : fieldsToChange.get(clazz)) {
+            final Class<?> fieldType = field.getType();
+            if (fieldType.equals(clazz) || !fieldPredicates.containsKey(fieldType)) {
+                continue;
+            }
+            if (onPath.contains(fieldType)) {
+                hasCycles = true;
+            } else {
+                clazzDependencies.add(fieldType);
+                visit(fieldType, visited, onPath);
+            }
+        }
+        dependencies.put(clazz, clazzDependencies);
+        onPath.remove(clazz);
+    }
+
+    private static Map<Class<?>, Predicate<String>> fieldPredicatesOf(final ClassAndFieldPredicatePair baseClassAndFieldPredicatePair,
+                                                                      final ClassAndFieldPredicatePair[] classAndFieldPredicatePairs) {
+        final Map<Class<?>, Predicate<String>> fieldPredicates = new LinkedHashMap<>();
+        for (final ClassAndFieldPredicatePair classAndFieldPredicatePair : classAndFieldPredicatePairs) {
+            final Class<?> clazz = classAndFieldPredicatePair.getClazz();
+            if (fieldPredicates.put(clazz, classAndFieldPredicatePair.getFieldsPredicate()) != null) {
+                throw new IllegalStateException("Duplicate key " + clazz);
+            }
+        }
+        fieldPredicates.put(baseClassAndFieldPredicatePair.getClazz(),
+                            baseClassAndFieldPredicatePair.getFieldsPredicate());
+        return fieldPredicates;
+    }
+}
@@ -7,40 +7,122 @@ import org.slf4j.LoggerFactory;
 import com.java.pojo.api.ClassAndFieldPredicatePair;
 import com.java.pojo.api.ConstructorParameters;
 import com.java.pojo.internal.field.AbstractFieldValueChanger;
+import com.java.pojo.internal.utils.FieldCopier;
 import com.java.pojo.internal.utils.FieldUtils;
+import com.java.pojo.internal.utils.GrayCodeFieldPermutator;
 import com.java.pojo.internal.utils.Permutator;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.reflect.Field;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 @Slf4j
 public class ObjectGenerator {
 
+    /**
+     * Clock of time based values of java types, unless other one is given.
+     */
+    public static final Clock DEFAULT_CLOCK = Prototypes.DEFAULT_CLOCK;
+    /**
+     * Seed of identifier values of java types, unless other one is given.
+     */
+    public static final long DEFAULT_SEED = InstantiationContext.DEFAULT_SEED;
+
     private final AbstractFieldValueChanger abstractFieldValueChanger;
     private final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters;
     private final Permutator permutator;
+    private final boolean incremental;
+    private final NestedObjectsCombination nestedObjectsCombination;
+    private final Clock clock;
+    private final long seed;
+    private final InstantiationContext instantiationContext;
+    private final ValuePool valuePool = new ValuePool(this::createNewInstance, this::increaseValueIfPossible);
+    private GenerationSession generationSession;
 
     public ObjectGenerator(final AbstractFieldValueChanger abstractFieldValueChanger,
                            final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters,
                            final Permutator permutator) {
+        this(abstractFieldValueChanger, constructorParameters, permutator, false);
+    }
+
+    /**
+     * @param incremental whether {@link #forEachDifferentObject(ClassAndFieldPredicatePair,
+     *                    ClassAndFieldPredicatePair[], BiConsumer)} should mutate a single working copy instead of
+     *                    creating new objects
+     */
+    public ObjectGenerator(final AbstractFieldValueChanger abstractFieldValueChanger,
+                           final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters,
+                           final Permutator permutator,
+                           final boolean incremental) {
+        this(abstractFieldValueChanger,
+             constructorParameters,
+             permutator,
+             incremental,
+             NestedObjectsCombination.cartesian());
+    }
+
+    /**
+     * @param incremental              whether {@link #forEachDifferentObject(ClassAndFieldPredicatePair,
+     *                                 ClassAndFieldPredicatePair[], BiConsumer)} should mutate a single working copy
+     *                                 instead of creating new objects
+     * @param nestedObjectsCombination strategy choosing which objects generated for nested fields are set together
+     */
+    public ObjectGenerator(final AbstractFieldValueChanger abstractFieldValueChanger,
+                           final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters,
+                           final Permutator permutator,
+                           final boolean incremental,
+                           final NestedObjectsCombination nestedObjectsCombination) {
+        this(abstractFieldValueChanger,
+             constructorParameters,
+             permutator,
+             incremental,
+             nestedObjectsCombination,
+             DEFAULT_CLOCK,
+             DEFAULT_SEED);
+    }
+
+    /**
+     * @param incremental              whether {@link #forEachDifferentObject(ClassAndFieldPredicatePair,
+     *                                 ClassAndFieldPredicatePair[], BiConsumer)} should mutate a single working copy
+     *                                 instead of creating new objects
+     * @param nestedObjectsCombination strategy choosing which objects generated for nested fields are set together
+     * @param clock                    clock of time based values of java types
+     * @param seed                     seed of the sequence of identifier values of java types
+     */
+    public ObjectGenerator(final AbstractFieldValueChanger abstractFieldValueChanger,
+                           final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters,
+                           final Permutator permutator,
+                           final boolean incremental,
+                           final NestedObjectsCombination nestedObjectsCombination,
+                           final Clock clock,
+                           final long seed) {
         this.abstractFieldValueChanger = abstractFieldValueChanger;
         this.constructorParameters = constructorParameters;
         this.permutator = permutator;
+        this.incremental = incremental;
+        this.nestedObjectsCombination = nestedObjectsCombination;
+        this.clock = clock;
+        this.seed = seed;
+        this.instantiationContext = new InstantiationContext(clock, seed);
     }
 
     public Object createNewInstance(final Class<?> clazz) {
-        return Instantiable.forClass(clazz, constructorParameters)
+        return Instantiable.forClass(clazz, constructorParameters, instantiationContext)
                            .instantiate();
     }
 
@@ -52,122 +134,191 @@ public class ObjectGenerator {
         return newInstance;
     }
 
-     /**
-     * Creates a new instance of {@code clazz} that is guaranteed to be unique relative to other
-     * instances created for the same type by applying {@code increaseValue} {@code uniquenessIndex}
+    /**
+     * Returns an instance of {@code clazz} that is guaranteed to be unique relative to other
+     * instances returned for the same type, by applying {@code increaseValue} {@code uniquenessIndex}
      * times. This prevents false positives in getter tests when a POJO has multiple fields of the
-     * same type (e.g. two {@code String} fields).
+     * same type (e.g. two {@code String} fields). Instances are taken from a value pool of this generator,
+     * so each of them is created once.
      */
     public Object createUniqueInstance(final Class<?> clazz, final int uniquenessIndex) {
-        Object value = createNewInstance(clazz);
-        for (int i = 0; i < uniquenessIndex && value != null; i++) {
-            try {
-                final Object increased = abstractFieldValueChanger.increaseValue(value);
-                if (increased == null) {
-                    break;
-                }
-                value = increased;
-            } catch (final ClassCastException e) {
-                // A value changer mis-matched this type (pre-existing canChange bug);
-                // stop increasing and use the value we have.
-                break;
-            }
-        }
-        return value;
+        return valuePool.get(clazz, uniquenessIndex);
     }
-    
+
     public List<Object> generateDifferentObjects(final ClassAndFieldPredicatePair baseClassAndFieldPredicatePair,
                                                  final ClassAndFieldPredicatePair... classAndFieldPredicatePairs) {
-        return generateDifferentObjects(0,
-                                        new HashMap<>(),
-                                        baseClassAndFieldPredicatePair,
-                                        classAndFieldPredicatePairs);
+        return streamDifferentObjects(baseClassAndFieldPredicatePair,
+                                      classAndFieldPredicatePairs).collect(Collectors.toList());
     }
 
-    private List<Object> generateDifferentObjects(final int level,
-                                                  final Map<Class<?>, List<Object>> dejaVu,
-                                                  final ClassAndFieldPredicatePair baseClassAndFieldPredicatePair,
-                                                  final ClassAndFieldPredicatePair... classAndFieldPredicatePairs) {
-        final Map<Class<?>, Predicate<String>> userDefinedClassAndFieldPredicatePairsMap = convertToMap(
-                classAndFieldPredicatePairs);
+    /**
+     * Generates the same objects as {@link #generateDifferentObjects(ClassAndFieldPredicatePair,
+     * ClassAndFieldPredicatePair...)}, lazily. The base object comes first. Every other object is created only when the
+     * stream reaches it, so a consumer that asserts and drops each object does not hold all of them in memory. Objects
+     * generated for nested classes are still kept, because every object of the base class reuses them.
+     */
+    public Stream<Object> streamDifferentObjects(final ClassAndFieldPredicatePair baseClassAndFieldPredicatePair,
+                                                 final ClassAndFieldPredicatePair... classAndFieldPredicatePairs) {
+        return streamDifferentObjects(0,
+                                      nestedTypeGraphOf(baseClassAndFieldPredicatePair, classAndFieldPredicatePairs),
+                                      baseClassAndFieldPredicatePair);
+    }
 
-        final Class baseClass = baseClassAndFieldPredicatePair.getClazz();
-        final Predicate<String> baseClassFieldPredicate = baseClassAndFieldPredicatePair.getFieldsPredicate();
+    /**
+     * Calls {@code action} with the base object and each of the other objects generated by
+     * {@link #streamDifferentObjects(ClassAndFieldPredicatePair, ClassAndFieldPredicatePair...)}.
+     * <p>
+     * In incremental mode, when no field to change holds a nested class, objects other than the base one are the same
+     * working copy. Going from one object to the next, only fields that differ between the two permutations are written,
+     * and every field gets its changed value created once. With {@code GrayCodeFieldPermutator} that is a single field
+     * write per object, and the field to write is found in constant time, without creating subsets of fields. The action must not keep the working copy, but can keep a snapshot of it created by
+     * {@link #generateSameInstance(Object)}.
+     */
+    public void forEachDifferentObject(final ClassAndFieldPredicatePair baseClassAndFieldPredicatePair,
+                                       final ClassAndFieldPredicatePair[] classAndFieldPredicatePairs,
+                                       final BiConsumer<Object, Object> action) {
+        final Class<?> baseClass = baseClassAndFieldPredicatePair.getClazz();
+        final List<Field> baseClassFieldsToChange = FieldUtils.getFields(baseClass,
+                                                                         baseClassAndFieldPredicatePair.getFieldsPredicate());
+        if (incremental && !hasNestedObjectsToGenerate(baseClass, baseClassFieldsToChange, classAndFieldPredicatePairs)) {
+            final Object baseObject = createNewInstance(baseClass);
+            log.debug("Start of incremental generating different objects for base class {}. Base object is {}",
+                      baseClassAndFieldPredicatePair,
+                      baseObject);
+            forEachDifferentObjectIncrementally(baseObject, baseClassFieldsToChange, action);
+        } else {
+            final Iterator<Object> differentObjects = generationSession == null
+                                                      ? streamDifferentObjects(baseClassAndFieldPredicatePair,
+                                                                               classAndFieldPredicatePairs).iterator()
+                                                      : differentObjectsOfSession(baseClassAndFieldPredicatePair,
+                                                                                  classAndFieldPredicatePairs);
+            final Object baseObject = differentObjects.next();
+            differentObjects.forEachRemaining(differentObject -> action.accept(baseObject, differentObject));
+        }
+    }
 
-        final List<Field> baseClassFieldsToChange = FieldUtils.getFields(baseClass, baseClassFieldPredicate);
-        userDefinedClassAndFieldPredicatePairsMap.put(baseClass, baseClassFieldPredicate);
+    /**
+     * Makes {@link #forEachDifferentObject(ClassAndFieldPredicatePair, ClassAndFieldPredicatePair[], BiConsumer)}
+     * reuse objects generated in given session by any generator set up the same way. Objects changed incrementally are
+     * never shared. Objects of nested classes are shared by all base classes tested with the same classes.
+     *
+     * @param generationSession session of current test run, or {@code null} to generate objects on each call
+     */
+    public void setGenerationSession(final GenerationSession generationSession) {
+        this.generationSession = generationSession;
+    }
 
-        final Map<Class<?>, List<Field>> userDefinedClassAndFieldToChangePairsMap = convertToClassAndFieldsToChange(
-                userDefinedClassAndFieldPredicatePairsMap);
+    private Iterator<Object> differentObjectsOfSession(final ClassAndFieldPredicatePair baseClassAndFieldPredicatePair,
+                                                       final ClassAndFieldPredicatePair[] classAndFieldPredicatePairs) {
+        final GenerationSession.Key key = new GenerationSession.Key(baseClassAndFieldPredicatePair,
+                                                                    classAndFieldPredicatePairs,
+                                                                    generatorSettings());
+        return generationSession.differentObjects(key,
+                                                  () -> streamDifferentObjects(baseClassAndFieldPredicatePair,
+                                                                               classAndFieldPredicatePairs));
+    }
 
-        final List<List<Field>> baseObjectFieldsPermutations = permutator.permute(baseClassFieldsToChange);
+    private NestedTypeGraph nestedTypeGraphOf(final ClassAndFieldPredicatePair baseClassAndFieldPredicatePair,
+                                              final ClassAndFieldPredicatePair[] classAndFieldPredicatePairs) {
+        if (generationSession == null) {
+            return NestedTypeGraph.of(baseClassAndFieldPredicatePair, classAndFieldPredicatePairs);
+        }
+        final GenerationSession.Key key = new GenerationSession.Key(NestedTypeGraph.classesOf(
+                baseClassAndFieldPredicatePair,
+                classAndFieldPredicatePairs), generatorSettings());
+        return generationSession.nestedTypeGraph(key,
+                                                 () -> NestedTypeGraph.of(baseClassAndFieldPredicatePair,
+                                                                          classAndFieldPredicatePairs,
+                                                                          generationSession::hold))
+                                .rootedAt(baseClassAndFieldPredicatePair.getClazz())
+                                .forGeneration();
+    }
 
-        final Object baseObject = createNewInstance(baseClass);
-        final LinkedList<Object> result = new LinkedList<>();
-        result.add(baseObject);
-        logWithLevel(level, "Start of generating different objects for base class {}. " +
-                             "Base object is {} -- others will be cloned from this one",
-                     baseClassAndFieldPredicatePair,
-                     baseObject);
+    private Object[] generatorSettings() {
+        return new Object[]{ abstractFieldValueChanger,
+                             constructorParameters,
+                             permutator,
+                             nestedObjectsCombination,
+                             clock,
+                             seed };
+    }
 
-        for (final List<Field> eachBaseObjectFieldsPermutation : baseObjectFieldsPermutations) {
-            final Object baseObjectCopy = generateSameInstance(baseObject);
-
-            final Map<Field, List<Object>> nestedObjectsThatAreWaitingForSetInBaseObjectCopy = new HashMap<>();
-            List<Object> partialResult = new ArrayList<>();
-
-            for (final Field permutationField : eachBaseObjectFieldsPermutation) {
-                final Class<?> permutationFieldType = permutationField.getType();
-
-                final List<Field> nestedFieldsToChangeInFieldType = userDefinedClassAndFieldToChangePairsMap.get(
-                        permutationFieldType);
-
-                if (nestedFieldsToChangeInFieldType == null || permutationFieldType.equals(baseClass)) {
-                    Object newFieldTypeInstance = createNewInstance(permutationFieldType);
-                    if (Objects.deepEquals(newFieldTypeInstance,
-                                           FieldUtils.getValue(baseObjectCopy, permutationField))) {
-                        newFieldTypeInstance = abstractFieldValueChanger.increaseValue(newFieldTypeInstance);
-                    }
-
-                    FieldUtils.setValue(baseObjectCopy, permutationField, newFieldTypeInstance);
-                } else {
-                    final List<Object> nestedObjectsOfFieldType;
-                    if (dejaVu.containsKey(permutationFieldType)) {
-                        nestedObjectsOfFieldType = new ArrayList<>(dejaVu.get(permutationFieldType));
-                        logWithLevel(level,
-                                     "Reusing {} objects from 'dejaVu' cache for {}",
-                                     nestedObjectsOfFieldType.size(),
-                                     permutationFieldType);
-                    } else {
-                        final Predicate<String> fieldPredicate = userDefinedClassAndFieldPredicatePairsMap.get(
-                                permutationFieldType);
-                        final List<Field> fieldClassFields = FieldUtils.getFields(permutationFieldType, fieldPredicate);
-
-                        if (hasNestedFieldsToChange(fieldClassFields, userDefinedClassAndFieldPredicatePairsMap)) {
-                            final ClassAndFieldPredicatePair classAndFieldPredicatePair = new ClassAndFieldPredicatePair(
-                                    permutationFieldType,
-                                    fieldPredicate);
-                            nestedObjectsOfFieldType = generateDifferentObjects(level + 1,
-                                                                                dejaVu,
-                                                                                classAndFieldPredicatePair,
-                                                                                classAndFieldPredicatePairs);
-                        } else {
-                            nestedObjectsOfFieldType = generateDifferentObjects(permutationFieldType, fieldClassFields);
-                        }
-                        dejaVu.computeIfAbsent(permutationFieldType,
-                                               clazz -> logAndPut(level, clazz, nestedObjectsOfFieldType));
-                    }
-                    nestedObjectsThatAreWaitingForSetInBaseObjectCopy.put(permutationField, nestedObjectsOfFieldType);
+    private void forEachDifferentObjectIncrementally(final Object baseObject,
+                                                     final List<Field> fieldsToChange,
+                                                     final BiConsumer<Object, Object> action) {
+        if (permutator instanceof GrayCodeFieldPermutator) {
+            forEachDifferentObjectByToggling(baseObject, fieldsToChange, action);
+            return;
+        }
+        final Object workingCopy = generateSameInstance(baseObject);
+        final Map<Field, Object> differentValues = new HashMap<>();
+        Set<Field> changedFields = new HashSet<>();
+
+        final Iterator<List<Field>> permutations = permutator.stream(fieldsToChange)
+                                                             .iterator();
+        while (permutations.hasNext()) {
+            final Set<Field> fieldsToBeChanged = new HashSet<>(permutations.next());
+            for (final Field changedField : changedFields) {
+                if (!fieldsToBeChanged.contains(changedField)) {
+                    FieldUtils.setValue(workingCopy, changedField, FieldUtils.getValue(baseObject, changedField));
                 }
             }
+            for (final Field fieldToBeChanged : fieldsToBeChanged) {
+                if (!changedFields.contains(fieldToBeChanged)) {
+                    final Object differentValue = differentValues.computeIfAbsent(
+                            fieldToBeChanged,
+                            field -> createDifferentValue(baseObject, field));
+                    FieldUtils.setValue(workingCopy, fieldToBeChanged, differentValue);
+                }
+            }
+            changedFields = fieldsToBeChanged;
+            action.accept(baseObject, workingCopy);
+        }
+    }
 
-            partialResult.add(baseObjectCopy);
-            for (final Map.Entry<Field, List<Object>> nestedObjectsToSet : nestedObjectsThatAreWaitingForSetInBaseObjectCopy
-                    .entrySet()) {
-                partialResult = createCopiesAndFillThem(partialResult, nestedObjectsToSet);
+    private void forEachDifferentObjectByToggling(final Object baseObject,
+                                                  final List<Field> fieldsToChange,
+                                                  final BiConsumer<Object, Object> action) {
+        final Object workingCopy = generateSameInstance(baseObject);
+        final Object[] differentValues = new Object[fieldsToChange.size()];
+        final boolean[] differentValueCreated = new boolean[fieldsToChange.size()];
+        final boolean[] changed = new boolean[fieldsToChange.size()];
+
+        final GrayCodeFieldPermutator grayCodePermutator = (GrayCodeFieldPermutator) permutator;
+        final PrimitiveIterator.OfInt toggledFieldIndexes = grayCodePermutator.toggledFieldIndexes(fieldsToChange)
+                                                                              .iterator();
+        while (toggledFieldIndexes.hasNext()) {
+            final int index = toggledFieldIndexes.nextInt();
+            final Field field = fieldsToChange.get(index);
+            if (changed[index]) {
+                FieldUtils.setValue(workingCopy, field, FieldUtils.getValue(baseObject, field));
+            } else {
+                if (!differentValueCreated[index]) {
+                    differentValues[index] = createDifferentValue(baseObject, field);
+                    differentValueCreated[index] = true;
+                }
+                FieldUtils.setValue(workingCopy, field, differentValues[index]);
             }
-            result.addAll(partialResult);
+            changed[index] = !changed[index];
+            action.accept(baseObject, workingCopy);
         }
+    }
+
+    private boolean hasNestedObjectsToGenerate(final Class<?> baseClass,
+                                               final List<Field> fieldsToChange,
+                                               final ClassAndFieldPredicatePair[] classAndFieldPredicatePairs) {
+        final Map<Class<?>, Predicate<String>> nestedClasses = convertToMap(classAndFieldPredicatePairs);
+        return fieldsToChange.stream()
+                             .map(Field::getType)
+                             .anyMatch(type -> !type.equals(baseClass) && nestedClasses.containsKey(type));
+    }
+
+    private List<Object> generateDifferentObjects(final int level,
+                                                  final NestedTypeGraph nestedTypeGraph,
+                                                  final ClassAndFieldPredicatePair baseClassAndFieldPredicatePair) {
+        final List<Object> result = streamDifferentObjects(level,
+                                                           nestedTypeGraph,
+                                                           baseClassAndFieldPredicatePair).collect(Collectors.toList());
         logWithLevel(level,
                      "End of generating different objects (size={}) for base class {} ",
                      result.size(),
@@ -175,23 +326,106 @@ public class ObjectGenerator {
         return result;
     }
 
-    private List<Object> logAndPut(final int level, final Class<?> clazz, final List<Object> nestedObjectsOfFieldType) {
-        logWithLevel(level,
-                     "Caching {} different objects for {} in dejaVu cache",
-                     nestedObjectsOfFieldType.size(),
-                     clazz);
-        return nestedObjectsOfFieldType;
+    private Stream<Object> streamDifferentObjects(final int level,
+                                                  final NestedTypeGraph nestedTypeGraph,
+                                                  final ClassAndFieldPredicatePair baseClassAndFieldPredicatePair) {
+        final Class<?> baseClass = baseClassAndFieldPredicatePair.getClazz();
+        final List<Field> baseClassFieldsToChange = nestedTypeGraph.getFieldsToChange(baseClass);
+
+        final Object baseObject = createNewInstance(baseClass);
+        logWithLevel(level, "Start of generating different objects for base class {}. " +
+                             "Base object is {} -- others will be cloned from this one",
+                     baseClassAndFieldPredicatePair,
+                     baseObject);
+
+        final Stream<Object> otherObjects = permutator.stream(baseClassFieldsToChange)
+                                                      .flatMap(eachBaseObjectFieldsPermutation -> generateDifferentObjects(
+                                                              level,
+                                                              nestedTypeGraph,
+                                                              baseClass,
+                                                              baseObject,
+                                                              eachBaseObjectFieldsPermutation));
+        return Stream.concat(Stream.of(baseObject), otherObjects);
+    }
+
+    private Stream<Object> generateDifferentObjects(final int level,
+                                                    final NestedTypeGraph nestedTypeGraph,
+                                                    final Class<?> baseClass,
+                                                    final Object baseObject,
+                                                    final List<Field> eachBaseObjectFieldsPermutation) {
+        final Object baseObjectCopy = generateSameInstance(baseObject);
+
+        final Map<Field, List<Object>> nestedObjectsThatAreWaitingForSetInBaseObjectCopy = new LinkedHashMap<>();
+
+        for (final Field permutationField : eachBaseObjectFieldsPermutation) {
+            final Class<?> permutationFieldType = permutationField.getType();
+
+            if (!nestedTypeGraph.isNested(baseClass, permutationFieldType)) {
+                final Object newFieldTypeInstance = createDifferentValue(baseObjectCopy, permutationField);
+                FieldUtils.setValue(baseObjectCopy, permutationField, newFieldTypeInstance);
+            } else {
+                if (nestedTypeGraph.hasNestedObjectsOf(permutationFieldType)) {
+                    logWithLevel(level, "Reusing objects from nested type graph for {}", permutationFieldType);
+                }
+                final List<Object> nestedObjectsOfFieldType = nestedTypeGraph.nestedObjectsOf(
+                        permutationFieldType,
+                        clazz -> generateNestedObjects(level, nestedTypeGraph, clazz));
+                nestedObjectsThatAreWaitingForSetInBaseObjectCopy.put(permutationField, nestedObjectsOfFieldType);
+            }
+        }
+
+        if (nestedObjectsThatAreWaitingForSetInBaseObjectCopy.isEmpty()) {
+            return Stream.of(baseObjectCopy);
+        }
+        return createCopiesAndFillThem(baseObjectCopy, nestedObjectsThatAreWaitingForSetInBaseObjectCopy);
+    }
+
+    private List<Object> generateNestedObjects(final int level,
+                                               final NestedTypeGraph nestedTypeGraph,
+                                               final Class<?> clazz) {
+        final List<Object> nestedObjects;
+        if (nestedTypeGraph.hasNestedFieldsToChange(clazz)) {
+            final ClassAndFieldPredicatePair classAndFieldPredicatePair = new ClassAndFieldPredicatePair(
+                    clazz,
+                    nestedTypeGraph.getFieldPredicate(clazz));
+            nestedObjects = generateDifferentObjects(level + 1, nestedTypeGraph, classAndFieldPredicatePair);
+        } else {
+            nestedObjects = generateDifferentObjects(clazz, nestedTypeGraph.getFieldsToChange(clazz));
+        }
+        logWithLevel(level, "Caching {} different objects for {} in nested type graph", nestedObjects.size(), clazz);
+        return nestedObjects;
+    }
+
+    private Object createDifferentValue(final Object object, final Field field) {
+        final Class<?> fieldType = field.getType();
+        final Object newFieldTypeInstance = valuePool.get(fieldType, 0);
+        if (!Objects.deepEquals(newFieldTypeInstance, FieldUtils.getValue(object, field))) {
+            return newFieldTypeInstance;
+        }
+        final Object increasedInstance = valuePool.get(fieldType, 1);
+        return increasedInstance != newFieldTypeInstance
+               ? increasedInstance
+               : abstractFieldValueChanger.increaseValue(newFieldTypeInstance);
+    }
+
+    /**
+     * @return increased value, or {@code null} if a value changer mis-matched its type (pre-existing canChange bug)
+     */
+    private Object increaseValueIfPossible(final Object value) {
+        try {
+            return abstractFieldValueChanger.increaseValue(value);
+        } catch (final ClassCastException e) {
+            return null;
+        }
     }
 
     private List<Object> generateDifferentObjects(final Class<?> clazz, final List<Field> fieldsToChange) {
         final List<Object> differentObjects;
-        final List<List<Field>> permutationOfFields = permutator.permute(fieldsToChange);
         final Object fieldObject = createNewInstance(clazz);
 
-        differentObjects = permutationOfFields.stream()
-                                              .map(fields -> generateInstanceWithDifferentFieldValues(fieldObject,
-                                                                                                      fields))
-                                              .collect(Collectors.toList());
+        differentObjects = permutator.stream(fieldsToChange)
+                                     .map(fields -> generateInstanceWithDifferentFieldValues(fieldObject, fields))
+                                     .collect(Collectors.toList());
         differentObjects.add(0, fieldObject);
         return differentObjects;
     }
@@ -213,44 +447,24 @@ public class ObjectGenerator {
         }
     }
 
-    private List<Object> createCopiesAndFillThem(final List<Object> baseObjects,
-                                                 final Map.Entry<Field, List<Object>> nestedObjectsToSet) {
-        final List<Object> result = new ArrayList<>();
-        final Field fieldToFill = nestedObjectsToSet.getKey();
-        final List<Object> objectsToFillWith = nestedObjectsToSet.getValue();
-
-        for (final Object baseObject : baseObjects) {
-            final List<Object> baseObjectClones = createCopies(baseObject, objectsToFillWith.size());
-
-            for (int i = 0; i < baseObjectClones.size(); i++) {
-                final Object baseObjectClone = baseObjectClones.get(i);
-                final Object valueToSet = objectsToFillWith.get(i);
-                FieldUtils.setValue(baseObjectClone, fieldToFill, valueToSet);
-            }
-            result.addAll(baseObjectClones);
-        }
-        return result;
-    }
-
-    private boolean hasNestedFieldsToChange(final List<Field> fields, final Map<Class<?>, Predicate<String>> classes) {
-        return fields.parallelStream()
-                     .map(Field::getType)
-                     .map(classes::get)
-                     .anyMatch(Objects::nonNull);
-    }
-
-    private List<Object> createCopies(final Object baseObject, final int size) {
-        return IntStream.range(0, size)
-                        .mapToObj(each -> generateSameInstance(baseObject))
-                        .collect(Collectors.toList());
-    }
-
-    private Map<Class<?>, List<Field>> convertToClassAndFieldsToChange(final Map<Class<?>, Predicate<String>> classAndFieldPredicatePairMap) {
-        return classAndFieldPredicatePairMap.entrySet()
-                                            .stream()
-                                            .collect(Collectors.toMap(Map.Entry::getKey,
-                                                                      entry -> FieldUtils.getFields(entry.getKey(),
-                                                                                                    entry.getValue())));
+    private Stream<Object> createCopiesAndFillThem(final Object baseObject,
+                                                   final Map<Field, List<Object>> nestedObjectsToSet) {
+        final List<Field> fieldsToFill = new ArrayList<>(nestedObjectsToSet.keySet());
+        final List<List<Object>> objectsToFillWith = new ArrayList<>(nestedObjectsToSet.values());
+        final int[] variantCounts = objectsToFillWith.stream()
+                                                     .mapToInt(List::size)
+                                                     .toArray();
+
+        return nestedObjectsCombination.combine(variantCounts)
+                                       .map(combination -> {
+                                           final Object baseObjectClone = generateSameInstance(baseObject);
+                                           for (int i = 0; i < combination.length; i++) {
+                                               final Object valueToSet = objectsToFillWith.get(i)
+                                                                                          .get(combination[i]);
+                                               FieldUtils.setValue(baseObjectClone, fieldsToFill.get(i), valueToSet);
+                                           }
+                                           return baseObjectClone;
+                                       });
     }
 
     private Map<Class<?>, Predicate<String>> convertToMap(final ClassAndFieldPredicatePair[] classAndFieldPredicatePairs) {
@@ -260,20 +474,8 @@ public class ObjectGenerator {
     }
 
     private Object makeThemEqual(final Object object, final Object newInstance) {
-        final List<Field> allFields = getAllFields(object);
-        for (final Field field : allFields) {
-            final Object value = FieldUtils.getValue(object, field);
-            FieldUtils.setValue(newInstance, field, value);
-        }
+        FieldCopier.of(object.getClass())
+                   .copy(object, newInstance);
         return newInstance;
     }
-
-    private List<Field> getAllFields(final Object object) {
-        Class<?> parent = object.getClass();
-        final List<Field> allFields = new ArrayList<>();
-        do {
-            allFields.addAll(FieldUtils.getAllFields(parent));
-        } while ((parent = parent.getSuperclass()) != null);
-        return allFields;
-    }
 }
@@ -0,0 +1,122 @@
+package com.java.pojo.internal.instantiator;
+
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Immutable table of prototype values of java types, keyed by class.
+ * <p>
+ * Time based values are taken from a clock. The table of the default clock is built lazily, once, and shared by all
+ * generators. Mutable values are created anew by each call. Identifiers are not part of the table, because each
+ * generator draws them from its own sequence, see {@link InstantiationContext}.
+ */
+final class Prototypes {
+
+    static final Clock DEFAULT_CLOCK = Clock.fixed(Instant.parse("2017-06-15T10:15:30Z"), ZoneOffset.UTC);
+
+    private final Map<Class<?>, Supplier<?>> prototypes;
+
+    private Prototypes(final Clock clock) {
+        this.prototypes = createPrototypes(clock);
+    }
+
+    /**
+     * @return prototypes of given clock, shared if it is the default one
+     */
+    static Prototypes of(final Clock clock) {
+        return DEFAULT_CLOCK.equals(clock)
+               ? DefaultPrototypes.PROTOTYPES
+               : new Prototypes(clock);
+    }
+
+    boolean contains(final Class<?> type) {
+        return prototypes.containsKey(type);
+    }
+
+    Object get(final Class<?> type) {
+        return prototypes.get(type)
+                         .get();
+    }
+
+    private static Map<Class<?>, Supplier<?>> createPrototypes(final Clock clock) {
+        final Map<Class<?>, Supplier<?>> prototypes = new HashMap<>();
+        putConstant(prototypes, boolean.class, Boolean.TRUE);
+        putConstant(prototypes, byte.class, (byte) -1);
+        putConstant(prototypes, char.class, 'b');
+        putConstant(prototypes, double.class, -2.5D);
+        putConstant(prototypes, float.class, -3.5F);
+        putConstant(prototypes, int.class, -4);
+        putConstant(prototypes, long.class, -5L);
+        putConstant(prototypes, short.class, (short) -6);
+        putConstant(prototypes, Boolean.class, Boolean.FALSE);
+        putConstant(prototypes, Byte.class, (byte) 1);
+        putConstant(prototypes, Character.class, 'a');
+        putConstant(prototypes, Double.class, 2.5D);
+        putConstant(prototypes, Float.class, 3.5F);
+        putConstant(prototypes, Integer.class, 4);
+        putConstant(prototypes, Long.class, 5L);
+        putConstant(prototypes, Short.class, (short) 6);
+
+        putConstant(prototypes, Class.class, Object.class);
+        putConstant(prototypes, String.class, "www.pojo.pl");
+
+        putConstant(prototypes, BigDecimal.class, BigDecimal.ONE);
+        putConstant(prototypes, BigInteger.class, BigInteger.ONE);
+
+        final LocalDate today = LocalDate.now(clock);
+        final Instant now = Instant.now(clock);
+        prototypes.put(java.sql.Date.class, () -> java.sql.Date.valueOf(today));
+        prototypes.put(Date.class, () -> Date.from(now));
+
+        putConstant(prototypes, Clock.class, clock);
+        putConstant(prototypes, Duration.class, Duration.ZERO);
+        putConstant(prototypes, Instant.class, now);
+        putConstant(prototypes, LocalDate.class, today);
+        putConstant(prototypes, LocalDateTime.class, LocalDateTime.now(clock));
+        putConstant(prototypes, LocalTime.class, LocalTime.now(clock));
+        putConstant(prototypes, MonthDay.class, MonthDay.now(clock));
+        putConstant(prototypes, OffsetDateTime.class, OffsetDateTime.now(clock));
+        putConstant(prototypes, OffsetTime.class, OffsetTime.now(clock));
+        putConstant(prototypes, Period.class, Period.ZERO);
+        putConstant(prototypes, Year.class, Year.now(clock));
+        putConstant(prototypes, YearMonth.class, YearMonth.now(clock));
+        putConstant(prototypes, ZonedDateTime.class, ZonedDateTime.now(clock));
+        putConstant(prototypes, ZoneId.class, clock.getZone());
+        putConstant(prototypes, ZoneOffset.class, ZoneOffset.UTC);
+        return Collections.unmodifiableMap(prototypes);
+    }
+
+    private static void putConstant(final Map<Class<?>, Supplier<?>> prototypes,
+                                    final Class<?> type,
+                                    final Object value) {
+        prototypes.put(type, () -> value);
+    }
+
+    /**
+     * Holds the prototypes of the default clock, which are created on first use.
+     */
+    private static final class DefaultPrototypes {
+        private static final Prototypes PROTOTYPES = new Prototypes(DEFAULT_CLOCK);
+    }
+}
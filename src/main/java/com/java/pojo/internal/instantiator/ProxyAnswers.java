@@ -0,0 +1,85 @@
+package com.java.pojo.internal.instantiator;
+
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Invocation handler of Java proxies created for interfaces and annotations.
+ * <p>
+ * Every method of the proxied type gets its answer computed once, when the handler is created, and invocations only
+ * look the answer up. Handlers are cached per proxied type in a {@link ClassValue}.
+ */
+final class ProxyAnswers implements InvocationHandler {
+
+    private static final ClassValue<ProxyAnswers> CACHE = new ClassValue<ProxyAnswers>() {
+        @Override
+        protected ProxyAnswers computeValue(final Class<?> type) {
+            return new ProxyAnswers(type);
+        }
+    };
+
+    private final Map<Method, Object> answers = new HashMap<>();
+
+    private ProxyAnswers(final Class<?> proxiedType) {
+        for (final Method method : Object.class.getMethods()) {
+            answers.put(method, answerFor(method));
+        }
+        for (final Method method : proxiedType.getMethods()) {
+            answers.put(method, answerFor(method));
+        }
+    }
+
+    static ProxyAnswers forType(final Class<?> proxiedType) {
+        return CACHE.get(proxiedType);
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+        final Object answer = answers.get(method);
+        return answer != null || answers.containsKey(method)
+               ? answer
+               : answerFor(method);
+    }
+
+    /**
+     * Annotation members answer their default value. Other methods answer a default of their return type:
+     * {@code true} for booleans, {@code "string"} for strings, the first constant for enums, zero for numbers and
+     * characters, and {@code null} for other types.
+     */
+    private static Object answerFor(final Method method) {
+        final Object defaultValue = method.getDefaultValue();
+        if (defaultValue != null) {
+            return defaultValue;
+        }
+        final Class<?> returnType = method.getReturnType();
+        if (returnType.equals(boolean.class) || returnType.equals(Boolean.class)) {
+            return true;
+        } else if (returnType.equals(String.class)) {
+            return "string";
+        } else if (returnType.equals(char.class) || returnType.equals(Character.class)) {
+            return '\u0000';
+        } else if (returnType.equals(double.class) || returnType.equals(Double.class)) {
+            return 0.0;
+        } else if (returnType.equals(float.class) || returnType.equals(Float.class)) {
+            return 0.0f;
+        } else if (returnType.equals(long.class) || returnType.equals(Long.class)) {
+            return 0L;
+        } else if (returnType.equals(int.class) || returnType.equals(Integer.class)) {
+            return 0;
+        } else if (returnType.equals(short.class) || returnType.equals(Short.class)) {
+            return (short) 0;
+        } else if (returnType.equals(byte.class) || returnType.equals(Byte.class)) {
+            return (byte) 0;
+        } else if (returnType.isEnum()) {
+            final Object[] enumConstants = returnType.getEnumConstants();
+            return enumConstants.length > 0
+                   ? enumConstants[0]
+                   : null;
+        } else {
+            return null;
+        }
+    }
+}
@@ -1,21 +1,18 @@
 package com.java.pojo.internal.instantiator;
 
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
 
 import org.apache.commons.collections4.MultiValuedMap;
 
 import com.java.pojo.api.ConstructorParameters;
+import com.java.pojo.internal.utils.ConstructorHandle;
 
 import lombok.extern.slf4j.Slf4j;
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.TypeCache;
 import net.bytebuddy.implementation.MethodDelegation;
 import net.bytebuddy.implementation.SuperMethodCall;
 import net.bytebuddy.matcher.ElementMatchers;
@@ -23,9 +20,17 @@ import net.bytebuddy.matcher.ElementMatchers;
 @Slf4j
 class ProxyInstantiator extends AbstractMultiConstructorInstantiator {
 
+    /**
+     * Generated subclasses of abstract classes. Defining a class is expensive, so each abstract class is subclassed
+     * once. Entries are softly referenced, so a subclass stays cached between uses, and is released, together with the
+     * abstract class and its class loader if nothing else uses them, only under memory pressure.
+     */
+    private static final TypeCache<Class<?>> SUBCLASSES = new TypeCache<>(TypeCache.Sort.SOFT);
+
 	ProxyInstantiator(final Class<?> clazz,
-                      final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters) {
-        super(clazz, constructorParameters);
+                      final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters,
+                      final InstantiationContext instantiationContext) {
+        super(clazz, constructorParameters, instantiationContext);
     }
 
     @Override
@@ -50,31 +55,35 @@ class ProxyInstantiator extends AbstractMultiConstructorInstantiator {
     
     private Object createAbstractClassInstance() {
     	try {
-			return new ByteBuddy()
-			        .subclass(clazz)
-			        .method(ElementMatchers.isDeclaredBy(clazz))
-			        .intercept(MethodDelegation.to(new MethodHandler()))
-			        .method(ElementMatchers.not(ElementMatchers.isAbstract()))
-			        .intercept(SuperMethodCall.INSTANCE)
-			        .make()
-			        .load(clazz.getClassLoader())
-			        .getLoaded()
-			        .getConstructor()
-			        .newInstance();
-		} catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
-				| NoSuchMethodException | SecurityException e) {
+			return ConstructorHandle.find(subclassOf(clazz))
+			                        .newInstance();
+		} catch (Throwable e) {
 			log.error("Failed to create proxy for abstract class: {}", clazz.getName(), e);
             return null;
 		}
     }
 
+    private static Class<?> subclassOf(final Class<?> abstractClass) {
+        return SUBCLASSES.findOrInsert(abstractClass.getClassLoader(),
+                                       abstractClass,
+                                       () -> new ByteBuddy().subclass(abstractClass)
+                                                            .method(ElementMatchers.isDeclaredBy(abstractClass))
+                                                            .intercept(MethodDelegation.to(MethodHandler.INSTANCE))
+                                                            .method(ElementMatchers.not(ElementMatchers.isAbstract()))
+                                                            .intercept(SuperMethodCall.INSTANCE)
+                                                            .make()
+                                                            .load(abstractClass.getClassLoader())
+                                                            .getLoaded(),
+                                       SUBCLASSES);
+    }
+
     private boolean qualifiesForProxy(final Class<?> clazz) {
         return clazz.isInterface() || clazz.isAnnotation() || Modifier.isAbstract(clazz.getModifiers());
     }
     
     private Object proxyByJava() {
         try {
-            return Proxy.newProxyInstance(clazz.getClassLoader(), new Class[]{clazz}, this::createInvocationHandler);
+            return Proxy.newProxyInstance(clazz.getClassLoader(), new Class[]{clazz}, ProxyAnswers.forType(clazz));
         } catch (IllegalArgumentException | UnsupportedOperationException e) {
             log.error("Failed to create proxy for interface/annotation: {}", clazz.getName(), e);
             return null;
@@ -84,18 +93,8 @@ class ProxyInstantiator extends AbstractMultiConstructorInstantiator {
     @Override
 	protected Object createObjectFromArgsConstructor(final Class<?>[] parameterTypes, final Object[] parameters) {
 	    try {
-	        final Constructor<?> declaredConstructor = clazz.getDeclaredConstructor(parameterTypes);
-
-	        if (!declaredConstructor.canAccess(null)) {
-	            // Use MethodHandles for private constructor access
-	            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
-	            MethodType methodType = MethodType.methodType(void.class, parameterTypes);
-	            MethodHandle constructorHandle = lookup.findConstructor(clazz, methodType);
-	            return constructorHandle.invokeWithArguments(parameters);
-	        } else {
-	            // Use reflection for accessible constructors
-	            return declaredConstructor.newInstance(parameters);
-	        }
+	        return ConstructorHandle.find(clazz, parameterTypes)
+	                                .newInstance(parameters);
 	    } catch (Throwable e) {
 	        throw new ObjectInstantiationException(clazz, "Could not create object from args constructor",
 	                parameterTypes, parameters, e);
@@ -105,17 +104,8 @@ class ProxyInstantiator extends AbstractMultiConstructorInstantiator {
 	@Override
 	protected Object createObjectFromNoArgsConstructor(final Constructor<?> constructor) {
 		try {
-			if (!constructor.canAccess(null)) {
-				// Use MethodHandles for private constructor access
-				MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(constructor.getDeclaringClass(),
-						MethodHandles.lookup());
-				MethodHandle constructorHandle = lookup.findConstructor(constructor.getDeclaringClass(),
-						MethodType.methodType(void.class));
-				return constructorHandle.invoke();
-			} else {
-				// Use reflection for accessible constructors
-				return constructor.newInstance();
-			}
+			return ConstructorHandle.of(constructor)
+			                        .newInstance();
 		} catch (Throwable e) {
 			log.debug("Exception:", e);
 			// Ignore, we want to try all constructors
@@ -124,36 +114,6 @@ class ProxyInstantiator extends AbstractMultiConstructorInstantiator {
 		}
 	}
 
-    private Object createInvocationHandler(final Object proxy, final Method method, final Object[] args) {
-        try {
-            return method.invoke(proxy, args);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            log.debug("Failed to invoke method: {} on proxy: {}", method.getName(), clazz.getName(), e);
-            final Class<?> returnType = method.getReturnType();
-
-            if (returnType.equals(boolean.class) || returnType.equals(Boolean.class)) {
-                return true;
-            } else if (returnType.equals(String.class)) {
-                return "string";
-            } else if (returnType.equals(char.class) || returnType.equals(Character.class)) {
-                return '\u0000'; // Default char
-            } else if (returnType.equals(double.class) || returnType.equals(Double.class)) {
-                return 0.0;
-            } else if (returnType.equals(float.class) || returnType.equals(Float.class)) {
-                return 0.0f;
-            } else if (returnType.equals(void.class)) {
-                return null; // void methods do not return a value
-            } else if (returnType.isEnum()) {
-                // For enums, return the first constant or null if no constants exist
-                Object[] enumConstants = returnType.getEnumConstants();
-                return enumConstants.length > 0 ? enumConstants[0] : null;
-            } else {
-                return 0; // Default for int, short, byte, long, and other primitives
-            }
-        }
-    }
-
-
     @Override
     protected ObjectInstantiationException createObjectInstantiationException() {
         return new ObjectInstantiationException(clazz,
@@ -161,8 +121,10 @@ class ProxyInstantiator extends AbstractMultiConstructorInstantiator {
     }
     
     public static class MethodHandler {
+        static final MethodHandler INSTANCE = new MethodHandler();
+
         public void intercept() {
-            System.out.println("Abstract method intercepted!");
+            // abstract methods of generated subclasses do nothing
         }
     }
 
@@ -1,9 +1,5 @@
 package com.java.pojo.internal.instantiator;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Objects;
@@ -12,6 +8,8 @@ import java.util.stream.Stream;
 import org.apache.commons.collections4.MultiValuedMap;
 
 import com.java.pojo.api.ConstructorParameters;
+import com.java.pojo.internal.utils.ClassMetadata;
+import com.java.pojo.internal.utils.ConstructorHandle;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,8 +18,9 @@ class UserDefinedConstructorInstantiator extends AbstractObjectInstantiator {
 
 
     UserDefinedConstructorInstantiator(final Class<?> clazz,
-                                       final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters) {
-        super(clazz, constructorParameters);
+                                       final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters,
+                                       final InstantiationContext instantiationContext) {
+        super(clazz, constructorParameters, instantiationContext);
     }
 
     @Override
@@ -52,34 +51,10 @@ class UserDefinedConstructorInstantiator extends AbstractObjectInstantiator {
                                                 "Could not instantiate object by any user defined constructor types and parameters.");
     }
 
-    private Object createObjectUsingConstructorParametersOld(final ConstructorParameters constructorParameters) {
-        try {
-            Class<?>[] constructorParametersTypes = constructorParameters.getParametersTypes();
-            Object[] arguments = constructorParameters.getParameters();
-
-            if (isInnerClass()) {
-                constructorParametersTypes = putEnclosingClassAsFirstParameterType(clazz.getEnclosingClass(),
-                                                                                   constructorParametersTypes);
-                final Object enclosingClassInstance = instantiateEnclosingClass();
-                arguments = putEnclosingClassInstanceAsFirstParameter(enclosingClassInstance, arguments);
-            }
-
-            // Use MethodHandles for private constructor access
-            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
-            MethodType methodType = MethodType.methodType(void.class, constructorParametersTypes);
-            MethodHandle constructorHandle = lookup.findConstructor(clazz, methodType);
-            return constructorHandle.invokeWithArguments(arguments);
-        } catch (Throwable e) {
-            log.debug("Exception:", e);
-            return null;
-        }
-    }
-    
     private Object createObjectUsingConstructorParameters(final ConstructorParameters constructorParameters) {
         try {
             // Check if the class has constructors
-            Constructor<?>[] constructors = clazz.getDeclaredConstructors();
-            if (constructors.length == 0) {
+            if (ClassMetadata.of(clazz).getDeclaredConstructors().isEmpty()) {
                 throw new ObjectInstantiationException(clazz, "Class has no constructors.");
             }
 
@@ -88,28 +63,23 @@ class UserDefinedConstructorInstantiator extends AbstractObjectInstantiator {
             Object[] arguments = constructorParameters.getParameters();
 
             if (isInnerClass()) {
-                constructorParametersTypes = putEnclosingClassAsFirstParameterType(clazz.getEnclosingClass(),
+                constructorParametersTypes = putEnclosingClassAsFirstParameterType(getEnclosingClass(),
                                                                                    constructorParametersTypes);
                 final Object enclosingClassInstance = instantiateEnclosingClass();
                 arguments = putEnclosingClassInstanceAsFirstParameter(enclosingClassInstance, arguments);
             }
 
-            // Use MethodHandles to attempt to access a matching constructor
+            // Attempt to access a matching constructor
             try {
-                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
-                MethodType methodType = MethodType.methodType(void.class, constructorParametersTypes);
-                MethodHandle constructorHandle = lookup.findConstructor(clazz, methodType);
-                return constructorHandle.invokeWithArguments(arguments);
+                return ConstructorHandle.find(clazz, constructorParametersTypes)
+                                        .newInstance(arguments);
             } catch (NoSuchMethodException | IllegalAccessException e) {
                 log.warn("No matching accessible constructor found for class: {}. Falling back to default constructor.", clazz.getName());
             }
 
             // Fallback to default constructor
-            Constructor<?> defaultConstructor = clazz.getDeclaredConstructor();
-            if (!defaultConstructor.canAccess(null)) {
-                defaultConstructor.setAccessible(true);
-            }
-            return defaultConstructor.newInstance();
+            return ConstructorHandle.find(clazz)
+                                    .newInstance();
         } catch (NoSuchMethodException e) {
             throw new ObjectInstantiationException(clazz, "No accessible constructors, including default constructor.", e);
         } catch (Throwable e) {
@@ -121,11 +91,15 @@ class UserDefinedConstructorInstantiator extends AbstractObjectInstantiator {
 
 
     private Object instantiateEnclosingClass() {
-    	final Class<?> enclosingClass = clazz.getEnclosingClass();
-        return Instantiable.forClass(enclosingClass, constructorParameters)
+        return Instantiable.forClass(getEnclosingClass(), constructorParameters, instantiationContext)
                            .instantiate();
     }
 
+    private Class<?> getEnclosingClass() {
+        return ClassMetadata.of(clazz)
+                            .getEnclosingClass();
+    }
+
     private Object[] putEnclosingClassInstanceAsFirstParameter(final Object enclosingClassInstance,
                                                                final Object[] arguments) {
         return Stream.concat(Stream.of(enclosingClassInstance), Arrays.stream(arguments))
@@ -139,7 +113,8 @@ class UserDefinedConstructorInstantiator extends AbstractObjectInstantiator {
     }
 
     private boolean isInnerClass() {
-        return clazz.getEnclosingClass() != null && !Modifier.isStatic(clazz.getModifiers());
+        return ClassMetadata.of(clazz)
+                            .isInnerClass();
     }
 
 }
@@ -0,0 +1,137 @@
+package com.java.pojo.internal.instantiator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Distinct values of types, served by index.
+ * <p>
+ * The first value of a type is created by {@code firstValue}, and each next one by applying {@code nextValue} to the
+ * previous one. Every value is created once and then returned in constant time. When {@code nextValue} returns
+ * {@code null} or the same value, the type has no more distinct values and higher indexes return the last one.
+ * <p>
+ * The pool keeps values of at most {@code maxTypes} types, evicting the least recently used one, and at most
+ * {@code maxValuesPerType} values of each type. Values with higher indexes are created again on each request. Only
+ * values of immutable types are kept: primitives and their wrappers, strings, enums, {@code java.time} types, big
+ * numbers and UUIDs. Values of any other type could be changed by one of the objects they were set to, so they are
+ * created again on each request. The pool is meant to live as long as a single test run and is not thread-safe.
+ */
+class ValuePool {
+
+    static final int DEFAULT_MAX_TYPES = 256;
+    static final int DEFAULT_MAX_VALUES_PER_TYPE = 1024;
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(Boolean.class,
+                                                                                     Byte.class,
+                                                                                     Character.class,
+                                                                                     Short.class,
+                                                                                     Integer.class,
+                                                                                     Long.class,
+                                                                                     Float.class,
+                                                                                     Double.class,
+                                                                                     String.class,
+                                                                                     BigDecimal.class,
+                                                                                     BigInteger.class,
+                                                                                     UUID.class));
+
+    private final Function<Class<?>, Object> firstValue;
+    private final UnaryOperator<Object> nextValue;
+    private final int maxValuesPerType;
+    private final Map<Class<?>, Values> values;
+
+    ValuePool(final Function<Class<?>, Object> firstValue, final UnaryOperator<Object> nextValue) {
+        this(firstValue, nextValue, DEFAULT_MAX_TYPES, DEFAULT_MAX_VALUES_PER_TYPE);
+    }
+
+    ValuePool(final Function<Class<?>, Object> firstValue,
+              final UnaryOperator<Object> nextValue,
+              final int maxTypes,
+              final int maxValuesPerType) {
+        this.firstValue = firstValue;
+        this.nextValue = nextValue;
+        this.maxValuesPerType = maxValuesPerType;
+        this.values = new LinkedHashMap<Class<?>, Values>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Class<?>, Values> eldest) {
+                return size() > maxTypes;
+            }
+        };
+    }
+
+    /**
+     * @return {@code index}-th distinct value of given type, counting from zero, or the last distinct value if the type
+     * has fewer of them
+     */
+    Object get(final Class<?> type, final int index) {
+        if (!isImmutable(type)) {
+            return new Values(type).get(index);
+        }
+        Values typeValues = values.get(type);
+        if (typeValues == null) {
+            typeValues = new Values(type);
+            values.put(type, typeValues);
+        }
+        return typeValues.get(index);
+    }
+
+    private static boolean isImmutable(final Class<?> type) {
+        return type.isPrimitive()
+               || IMMUTABLE_TYPES.contains(type)
+               || Enum.class.isAssignableFrom(type)
+               || type.getPackageName()
+                      .startsWith("java.time");
+    }
+
+    private final class Values {
+
+        private final List<Object> created = new ArrayList<>();
+        private boolean complete;
+
+        private Values(final Class<?> type) {
+            created.add(firstValue.apply(type));
+        }
+
+        private Object get(final int index) {
+            while (index >= created.size() && !complete && created.size() < maxValuesPerType) {
+                final Object last = created.get(created.size() - 1);
+                final Object next = last == null
+                                    ? null
+                                    : nextValue.apply(last);
+                if (next == null || next == last) {
+                    complete = true;
+                } else {
+                    created.add(next);
+                }
+            }
+            if (index < created.size()) {
+                return created.get(index);
+            }
+            final Object last = created.get(created.size() - 1);
+            return complete
+                   ? last
+                   : createAfter(last, index - created.size() + 1);
+        }
+
+        private Object createAfter(final Object last, final int steps) {
+            Object value = last;
+            for (int i = 0; i < steps; i++) {
+                final Object next = nextValue.apply(value);
+                if (next == null || next == value) {
+                    break;
+                }
+                value = next;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.java.pojo.internal.tester;
+
+import com.java.pojo.api.ClassAndFieldPredicatePair;
+import com.java.pojo.internal.field.AbstractFieldValueChanger;
+
+/**
+ * Checks of the equals contract, shared by testers of equals method.
+ * <p>
+ * Subclasses may extend each check with assertions of their own, which are then made on the same objects.
+ */
+abstract class AbstractEqualsTester extends AbstractTester {
+
+    AbstractEqualsTester() {
+        super();
+    }
+
+    AbstractEqualsTester(final AbstractFieldValueChanger abstractFieldValueChanger) {
+        super(abstractFieldValueChanger);
+    }
+
+    @Override
+    public void test(final ClassAndFieldPredicatePair baseClassAndFieldPredicatePair,
+                     final ClassAndFieldPredicatePair... classAndFieldPredicatePairs) {
+        final Class<?> testedClass = baseClassAndFieldPredicatePair.getClazz();
+        final Object instance = objectGenerator.createNewInstance(testedClass);
+
+        shouldEqualSameInstance(instance);
+        shouldBeConsistent(instance);
+        shouldEqualDifferentInstance(instance, objectGenerator.generateSameInstance(instance));
+        shouldEqualObjectCifObjectBisEqualToObjectAndC(instance);
+        shouldNotEqualNull(instance);
+        shouldNotEqualDifferentType(instance);
+        shouldNotEqualWithGivenFields(baseClassAndFieldPredicatePair, classAndFieldPredicatePairs);
+        shouldEqualWithInvertedGivenFields(baseClassAndFieldPredicatePair, classAndFieldPredicatePairs);
+    }
+
+    protected void shouldBeConsistent(final Object object) {
+        testAssertions.assertThatEqualsMethodFor(object)
+                      .isConsistent();
+    }
+
+    protected void shouldEqualDifferentInstance(final Object object, final Object otherObject) {
+        testAssertions.assertThatEqualsMethodFor(object)
+                      .isSymmetric(otherObject);
+    }
+
+    protected void assertIsNotEqualTo(final Object object, final Object eachDifferentObject) {
+        testAssertions.assertThatEqualsMethodFor(object)
+                      .isNotEqualTo(eachDifferentObject);
+    }
+
+    protected void assertIsEqualTo(final Object object, final Object eachDifferentObject) {
+        testAssertions.assertThatEqualsMethodFor(object)
+                      .isEqualTo(eachDifferentObject);
+    }
+
+    private void shouldEqualSameInstance(final Object object) {
+        testAssertions.assertThatEqualsMethodFor(object)
+                      .isReflexive();
+    }
+
+    private void shouldEqualObjectCifObjectBisEqualToObjectAndC(final Object object) {
+        final Object b = objectGenerator.generateSameInstance(object);
+        final Object c = objectGenerator.generateSameInstance(object);
+        testAssertions.assertThatEqualsMethodFor(object)
+                      .isTransitive(b, c);
+    }
+
+    private void shouldNotEqualNull(final Object object) {
+        testAssertions.assertThatEqualsMethodFor(object)
+                      .isNotEqualToNull();
+    }
+
+    private void shouldNotEqualDifferentType(final Object object) {
+        final Object objectToCompare = this;
+        testAssertions.assertThatEqualsMethodFor(object)
+                      .isNotEqualToObjectWithDifferentType(objectToCompare);
+    }
+
+    private void shouldNotEqualWithGivenFields(final ClassAndFieldPredicatePair base,
+                                               final ClassAndFieldPredicatePair... nested) {
+        objectGenerator.forEachDifferentObject(base, nested, this::assertIsNotEqualTo);
+    }
+
+    private void shouldEqualWithInvertedGivenFields(final ClassAndFieldPredicatePair base,
+                                                    final ClassAndFieldPredicatePair... nested) {
+        final ClassAndFieldPredicatePair baseWithInvertedFields = invertIncludedFields(base);
+        objectGenerator.forEachDifferentObject(baseWithInvertedFields, nested, this::assertIsEqualTo);
+    }
+}
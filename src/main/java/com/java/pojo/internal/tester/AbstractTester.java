@@ -11,9 +11,12 @@ import com.java.pojo.internal.assertion.TestAssertions;
 import com.java.pojo.internal.field.AbstractFieldValueChanger;
 import com.java.pojo.internal.field.DefaultFieldValueChanger;
 import com.java.pojo.internal.instantiator.ObjectGenerator;
+import com.java.pojo.internal.instantiator.GenerationSession;
+import com.java.pojo.internal.instantiator.NestedObjectsCombination;
 import com.java.pojo.internal.utils.Permutator;
 import com.java.pojo.internal.utils.ThoroughFieldPermutator;
 
+import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
@@ -26,6 +29,11 @@ public abstract class AbstractTester {
     private MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters = new ArrayListValuedHashMap<>();
     private AbstractFieldValueChanger fieldValuesChanger = DefaultFieldValueChanger.INSTANCE;
     private Permutator permutator = new ThoroughFieldPermutator();
+    private boolean incrementalGeneration;
+    private NestedObjectsCombination nestedObjectsCombination = NestedObjectsCombination.cartesian();
+    private Clock clock = ObjectGenerator.DEFAULT_CLOCK;
+    private long seed = ObjectGenerator.DEFAULT_SEED;
+    private GenerationSession generationSession;
 
     public AbstractTester() {
         this(DefaultFieldValueChanger.INSTANCE);
@@ -64,12 +72,12 @@ public abstract class AbstractTester {
 
     public void setFieldValuesChanger(final AbstractFieldValueChanger fieldValuesChanger) {
         this.fieldValuesChanger = fieldValuesChanger;
-        objectGenerator = new ObjectGenerator(fieldValuesChanger, constructorParameters, permutator);
+        objectGenerator = createObjectGenerator();
     }
 
     public void setUserDefinedConstructors(final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters) {
         this.constructorParameters = constructorParameters;
-        objectGenerator = new ObjectGenerator(fieldValuesChanger, constructorParameters, permutator);
+        objectGenerator = createObjectGenerator();
     }
 
     @Override
@@ -100,6 +108,16 @@ public abstract class AbstractTester {
                                     .toHashCode();
     }
 
+    /**
+     * @return the same class, with fields to change that were not to be changed by {@code base} and vice versa
+     */
+    protected ClassAndFieldPredicatePair invertIncludedFields(final ClassAndFieldPredicatePair base) {
+        final Class<?> clazz = base.getClazz();
+        final Predicate<String> excludedFields = base.getFieldsPredicate()
+                                                     .negate();
+        return new ClassAndFieldPredicatePair(clazz, excludedFields);
+    }
+
     protected MultiValuedMap<Class<?>, ConstructorParameters> getConstructorParameters() {
         return constructorParameters;
     }
@@ -113,4 +131,37 @@ public abstract class AbstractTester {
     public void setPermutator(final Permutator permutator) {
         this.permutator = permutator;
     }
+
+    public void setIncrementalGeneration(final boolean incrementalGeneration) {
+        this.incrementalGeneration = incrementalGeneration;
+        objectGenerator = createObjectGenerator();
+    }
+
+    public void setNestedObjectsCombination(final NestedObjectsCombination nestedObjectsCombination) {
+        this.nestedObjectsCombination = nestedObjectsCombination;
+        objectGenerator = createObjectGenerator();
+    }
+
+    public void setClockAndSeed(final Clock clock, final long seed) {
+        this.clock = clock;
+        this.seed = seed;
+        objectGenerator = createObjectGenerator();
+    }
+
+    public void setGenerationSession(final GenerationSession generationSession) {
+        this.generationSession = generationSession;
+        objectGenerator.setGenerationSession(generationSession);
+    }
+
+    private ObjectGenerator createObjectGenerator() {
+        final ObjectGenerator newObjectGenerator = new ObjectGenerator(fieldValuesChanger,
+                                                                       constructorParameters,
+                                                                       permutator,
+                                                                       incrementalGeneration,
+                                                                       nestedObjectsCombination,
+                                                                       clock,
+                                                                       seed);
+        newObjectGenerator.setGenerationSession(generationSession);
+        return newObjectGenerator;
+    }
 }
@@ -6,6 +6,7 @@ import org.slf4j.LoggerFactory;
 import com.java.pojo.api.ClassAndFieldPredicatePair;
 import com.java.pojo.api.ConstructorParameters;
 import com.java.pojo.internal.field.AbstractFieldValueChanger;
+import com.java.pojo.internal.utils.ClassMetadata;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
@@ -41,9 +42,11 @@ public class ConstructorTester extends AbstractTester {
     }
 
     private List<Constructor<?>> getNotSyntheticConstructorFromClass(final Class<?> testedClass) {
-        return Arrays.stream(testedClass.getDeclaredConstructors())
-                     .filter(this::isNotSynthetic)
-                     .collect(Collectors.toList());
+        return ClassMetadata.of(testedClass)
+                            .getDeclaredConstructors()
+                            .stream()
+                            .filter(this::isNotSynthetic)
+                            .collect(Collectors.toList());
     }
 
     private boolean isNotSynthetic(final Constructor<?> constructor) {
@@ -0,0 +1,50 @@
+package com.java.pojo.internal.tester;
+
+import com.java.pojo.internal.field.AbstractFieldValueChanger;
+
+/**
+ * Tests equals and hashCode methods together, performing assertions of both {@link EqualsTester} and
+ * {@link HashCodeTester} in a single pass over generated objects.
+ * <p>
+ * Each pair of generated objects is checked by both contracts at once: objects differing by tested fields must not be
+ * equal and must have different hash codes, and objects differing only by other fields must be equal and, since they
+ * are equal, must have the same hash codes.
+ */
+public class EqualsAndHashCodeTester extends AbstractEqualsTester {
+
+    public EqualsAndHashCodeTester() {
+        super();
+    }
+
+    public EqualsAndHashCodeTester(final AbstractFieldValueChanger abstractFieldValueChanger) {
+        super(abstractFieldValueChanger);
+    }
+
+    @Override
+    protected void shouldBeConsistent(final Object object) {
+        super.shouldBeConsistent(object);
+        testAssertions.assertThatHashCodeMethodFor(object)
+                      .isConsistent();
+    }
+
+    @Override
+    protected void shouldEqualDifferentInstance(final Object object, final Object otherObject) {
+        super.shouldEqualDifferentInstance(object, otherObject);
+        testAssertions.assertThatHashCodeMethodFor(object)
+                      .returnsSameValueFor(otherObject);
+    }
+
+    @Override
+    protected void assertIsNotEqualTo(final Object object, final Object eachDifferentObject) {
+        super.assertIsNotEqualTo(object, eachDifferentObject);
+        testAssertions.assertThatHashCodeMethodFor(object)
+                      .returnsDifferentValueFor(eachDifferentObject);
+    }
+
+    @Override
+    protected void assertIsEqualTo(final Object object, final Object eachDifferentObject) {
+        super.assertIsEqualTo(object, eachDifferentObject);
+        testAssertions.assertThatHashCodeMethodFor(object)
+                      .returnsSameValueFor(eachDifferentObject);
+    }
+}
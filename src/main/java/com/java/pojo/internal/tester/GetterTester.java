@@ -2,8 +2,8 @@ package com.java.pojo.internal.tester;
 
 import com.java.pojo.api.ClassAndFieldPredicatePair;
 import com.java.pojo.internal.field.AbstractFieldValueChanger;
+import com.java.pojo.internal.utils.ClassMetadata;
 import com.java.pojo.internal.utils.FieldUtils;
-import com.java.pojo.internal.utils.MethodUtils;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -33,7 +33,7 @@ public class GetterTester extends AbstractTester {
         IntStream.range(0, getterAndFieldPairs.size()).forEach(i -> testGetter(getterAndFieldPairs.get(i), instance, i));
     }
 
-    private void testGetter(final GetterAndFieldPair eachPair, final Object instance, final int fieldIndex)) {
+    private void testGetter(final GetterAndFieldPair eachPair, final Object instance, final int fieldIndex) {
         final Method getter = eachPair.getGetter();
         final Field field = eachPair.getField();
         // Set a unique value for this field before invoking the getter. Using fieldIndex to
@@ -52,7 +52,8 @@ public class GetterTester extends AbstractTester {
     }
 
     private GetterAndFieldPair findSetterAndGetterPairForField(final Class<?> testedClass, final Field field) {
-        final Method getter = MethodUtils.findGetterFor(testedClass, field);
+        final Method getter = ClassMetadata.of(testedClass)
+                                           .findGetterFor(field);
         return new GetterAndFieldPair(getter, field);
     }
 
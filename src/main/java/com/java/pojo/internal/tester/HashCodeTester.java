@@ -4,10 +4,6 @@ package com.java.pojo.internal.tester;
 import com.java.pojo.api.ClassAndFieldPredicatePair;
 import com.java.pojo.internal.field.AbstractFieldValueChanger;
 
-import java.util.List;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
-
 public class HashCodeTester extends AbstractTester {
 
     public HashCodeTester() {
@@ -44,35 +40,24 @@ public class HashCodeTester extends AbstractTester {
 
     private void shouldHaveDifferentHashCodesForUserDefinedFields(final ClassAndFieldPredicatePair base,
                                                                   final ClassAndFieldPredicatePair... nested) {
-        final List<Object> differentObjects = objectGenerator.generateDifferentObjects(base, nested);
-        final Object firstObject = differentObjects.remove(0);
-        differentObjects.forEach(assertHaveDifferentHashCodes(firstObject));
+        objectGenerator.forEachDifferentObject(base, nested, this::assertHaveDifferentHashCodes);
     }
 
 
-    private Consumer<Object> assertHaveDifferentHashCodes(final Object object) {
-        return eachDifferentObject -> testAssertions.assertThatHashCodeMethodFor(object)
-                                                    .returnsDifferentValueFor(eachDifferentObject);
+    private void assertHaveDifferentHashCodes(final Object object, final Object eachDifferentObject) {
+        testAssertions.assertThatHashCodeMethodFor(object)
+                      .returnsDifferentValueFor(eachDifferentObject);
     }
 
     private void shouldHaveSameHashCodesForInversionOfUserDefinedFields(final ClassAndFieldPredicatePair base,
                                                                         final ClassAndFieldPredicatePair... nested) {
         final ClassAndFieldPredicatePair baseWithInvertedFields = invertIncludedFields(base);
-        final List<Object> differentObjects = objectGenerator.generateDifferentObjects(baseWithInvertedFields, nested);
-        final Object firstObject = differentObjects.remove(0);
-        differentObjects.forEach(assertHaveSameHashCodes(firstObject));
+        objectGenerator.forEachDifferentObject(baseWithInvertedFields, nested, this::assertHaveSameHashCodes);
     }
 
-    private ClassAndFieldPredicatePair invertIncludedFields(final ClassAndFieldPredicatePair base) {
-        final Class<?> clazz = base.getClazz();
-        final Predicate<String> excludedFields = base.getFieldsPredicate()
-                                                     .negate();
-        return new ClassAndFieldPredicatePair(clazz, excludedFields);
-    }
-
-    private Consumer<Object> assertHaveSameHashCodes(final Object object) {
-        return eachDifferentObject -> testAssertions.assertThatHashCodeMethodFor(object)
-                                                    .returnsSameValueFor(eachDifferentObject);
+    private void assertHaveSameHashCodes(final Object object, final Object eachDifferentObject) {
+        testAssertions.assertThatHashCodeMethodFor(object)
+                      .returnsSameValueFor(eachDifferentObject);
     }
 
 }
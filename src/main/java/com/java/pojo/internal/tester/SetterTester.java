@@ -3,8 +3,8 @@ package com.java.pojo.internal.tester;
 
 import com.java.pojo.api.ClassAndFieldPredicatePair;
 import com.java.pojo.internal.field.AbstractFieldValueChanger;
+import com.java.pojo.internal.utils.ClassMetadata;
 import com.java.pojo.internal.utils.FieldUtils;
-import com.java.pojo.internal.utils.MethodUtils;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -54,7 +54,8 @@ public class SetterTester extends AbstractTester {
     }
 
     private SetterAndFieldPair findSetterAndGetterPairForField(final Class<?> testedClass, final Field field) {
-        final Method setter = MethodUtils.findSetterFor(testedClass, field);
+        final Method setter = ClassMetadata.of(testedClass)
+                                           .findSetterFor(field);
         return new SetterAndFieldPair(setter, field);
     }
 
@@ -0,0 +1,117 @@
+package com.java.pojo.internal.utils;
+
+import org.apache.commons.lang3.reflect.TypeUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Public getters and setters of a class indexed by the property name they refer to.
+ * <p>
+ * Naming rules are applied once, while the index is built. Getters returning {@code boolean} or {@link Boolean} are
+ * indexed under every supported prefix ({@code is}, {@code has}, {@code get}, {@code have}, {@code contains}), other
+ * getters only under {@code get}. Resolving an accessor for a field is then a map lookup followed by a type check of
+ * the few candidates sharing its name.
+ */
+final class AccessorIndex {
+
+    private static final String[] BOOLEAN_GETTER_PREFIXES = { "is", "has", "get", "have", "contains" };
+    private static final String GETTER_PREFIX = "get";
+    private static final String SETTER_PREFIX = "set";
+    private static final String BOOLEAN_FIELD_PREFIX = "is";
+
+    private final Map<String, List<Method>> getters = new HashMap<>();
+    private final Map<String, List<Method>> booleanGettersByMethodName = new HashMap<>();
+    private final Map<String, List<Method>> setters = new HashMap<>();
+    private final List<Method> booleanSetters = new ArrayList<>();
+
+    AccessorIndex(final Class<?> clazz) {
+        for (final Method method : clazz.getMethods()) {
+            if (method.getParameterCount() == 0) {
+                indexGetter(method);
+            } else if (method.getParameterCount() == 1 && method.getReturnType() == void.class) {
+                indexSetter(method);
+            }
+        }
+    }
+
+    Optional<Method> findGetterFor(final Field field) {
+        final String fieldName = field.getName();
+        return Stream.concat(candidates(booleanGettersByMethodName, fieldName),
+                             candidates(getters, upperCaseFirstLetter(fieldName)))
+                     .filter(method -> TypeUtils.isAssignable(method.getReturnType(), field.getType()))
+                     .findFirst();
+    }
+
+    Optional<Method> findSetterFor(final Field field) {
+        final String fieldName = field.getName();
+        final Stream<Method> candidates;
+        if (fieldName.startsWith(BOOLEAN_FIELD_PREFIX)) {
+            final String fieldNameWithoutPrefix = fieldName.substring(BOOLEAN_FIELD_PREFIX.length());
+            final Stream<Method> booleanCandidates = booleanSetters.stream()
+                                                                   .filter(method -> method.getName()
+                                                                                           .endsWith(fieldNameWithoutPrefix));
+            final Stream<Method> otherCandidates = candidates(setters, upperCaseFirstLetter(fieldName))
+                    .filter(method -> !isBoolean(method.getParameterTypes()[0]));
+            candidates = Stream.concat(booleanCandidates, otherCandidates);
+        } else {
+            candidates = candidates(setters, upperCaseFirstLetter(fieldName));
+        }
+        return candidates.filter(method -> TypeUtils.isAssignable(method.getParameterTypes()[0], field.getType()))
+                         .findFirst();
+    }
+
+    private void indexGetter(final Method method) {
+        final String methodName = method.getName();
+        if (isBoolean(method.getReturnType())) {
+            for (final String prefix : BOOLEAN_GETTER_PREFIXES) {
+                if (methodName.startsWith(prefix)) {
+                    add(getters, methodName.substring(prefix.length()), method);
+                }
+            }
+            if (methodName.startsWith(BOOLEAN_FIELD_PREFIX)) {
+                add(booleanGettersByMethodName, methodName, method);
+            }
+        } else if (methodName.startsWith(GETTER_PREFIX)) {
+            add(getters, methodName.substring(GETTER_PREFIX.length()), method);
+        }
+    }
+
+    private void indexSetter(final Method method) {
+        final String methodName = method.getName();
+        if (!methodName.startsWith(SETTER_PREFIX)) {
+            return;
+        }
+        add(setters, methodName.substring(SETTER_PREFIX.length()), method);
+        if (isBoolean(method.getParameterTypes()[0])) {
+            booleanSetters.add(method);
+        }
+    }
+
+    private static Stream<Method> candidates(final Map<String, List<Method>> index, final String name) {
+        return index.getOrDefault(name, Collections.emptyList())
+                    .stream();
+    }
+
+    private static void add(final Map<String, List<Method>> index, final String name, final Method method) {
+        index.computeIfAbsent(name, key -> new ArrayList<>(1))
+             .add(method);
+    }
+
+    private static boolean isBoolean(final Class<?> type) {
+        return type.equals(boolean.class) || type.equals(Boolean.class);
+    }
+
+    private static String upperCaseFirstLetter(final String string) {
+        final String firstLetter = string.substring(0, 1)
+                                         .toUpperCase();
+        return firstLetter + string.substring(1);
+    }
+}
@@ -0,0 +1,136 @@
+package com.java.pojo.internal.utils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reflective metadata of a single class, computed once per class and shared by testers, object generator and
+ * instantiators.
+ * <p>
+ * Instances are cached in a {@link ClassValue}, so metadata lives as long as the described class does.
+ */
+public final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> CACHE = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(final Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Class<?> clazz;
+    private final List<Field> declaredFields;
+    private final List<String> declaredFieldNames;
+    private final List<Constructor<?>> declaredConstructors;
+    private final Class<?> enclosingClass;
+    private final boolean innerClass;
+    private final Map<Field, Method> getters = new ConcurrentHashMap<>();
+    private final Map<Field, Method> setters = new ConcurrentHashMap<>();
+    private volatile List<Field> allFields;
+    private volatile AccessorIndex accessorIndex;
+
+    private ClassMetadata(final Class<?> clazz) {
+        this.clazz = clazz;
+        this.declaredFields = Arrays.stream(clazz.getDeclaredFields())
+                                    .filter(field -> !field.isSynthetic())
+                                    .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                                    .toList();
+        this.declaredFieldNames = declaredFields.stream()
+                                                .map(Field::getName)
+                                                .toList();
+        this.declaredConstructors = List.of(clazz.getDeclaredConstructors());
+        this.enclosingClass = clazz.getEnclosingClass();
+        this.innerClass = enclosingClass != null && !Modifier.isStatic(clazz.getModifiers());
+    }
+
+    public static ClassMetadata of(final Class<?> clazz) {
+        return CACHE.get(clazz);
+    }
+
+    public Class<?> getClazz() {
+        return clazz;
+    }
+
+    /**
+     * @return non-static, non-synthetic fields declared directly in this class
+     */
+    public List<Field> getDeclaredFields() {
+        return declaredFields;
+    }
+
+    public List<String> getDeclaredFieldNames() {
+        return declaredFieldNames;
+    }
+
+    /**
+     * @return non-static, non-synthetic fields declared in this class and all of its superclasses
+     */
+    public List<Field> getAllFields() {
+        List<Field> result = allFields;
+        if (result == null) {
+            result = flattenFields();
+            allFields = result;
+        }
+        return result;
+    }
+
+    public List<Constructor<?>> getDeclaredConstructors() {
+        return declaredConstructors;
+    }
+
+    public Class<?> getEnclosingClass() {
+        return enclosingClass;
+    }
+
+    /**
+     * @return {@code true} if this class is a non-static member, local or anonymous class
+     */
+    public boolean isInnerClass() {
+        return innerClass;
+    }
+
+    public Method findGetterFor(final Field field) {
+        return getters.computeIfAbsent(field, this::resolveGetter);
+    }
+
+    public Method findSetterFor(final Field field) {
+        return setters.computeIfAbsent(field, this::resolveSetter);
+    }
+
+    private Method resolveGetter(final Field field) {
+        return getAccessorIndex().findGetterFor(field)
+                                 .orElseThrow(() -> new GetterNotFoundException(clazz, field));
+    }
+
+    private Method resolveSetter(final Field field) {
+        return getAccessorIndex().findSetterFor(field)
+                                 .orElseThrow(() -> new SetterNotFoundException(clazz, field));
+    }
+
+    private AccessorIndex getAccessorIndex() {
+        AccessorIndex result = accessorIndex;
+        if (result == null) {
+            result = new AccessorIndex(clazz);
+            accessorIndex = result;
+        }
+        return result;
+    }
+
+    private List<Field> flattenFields() {
+        final List<Field> fields = new ArrayList<>(declaredFields);
+        Class<?> parent = clazz.getSuperclass();
+        while (parent != null) {
+            fields.addAll(of(parent).getDeclaredFields());
+            parent = parent.getSuperclass();
+        }
+        return Collections.unmodifiableList(fields);
+    }
+}
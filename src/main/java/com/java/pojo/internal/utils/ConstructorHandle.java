@@ -0,0 +1,86 @@
+package com.java.pojo.internal.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolved, invocation-ready handle of a single constructor.
+ * <p>
+ * Each constructor is looked up once. The handle is adapted to take its arguments as one {@code Object[]} and return
+ * {@code Object}, so it is invoked exactly without going through {@link MethodHandle#invokeWithArguments}. Handles are
+ * cached per declaring class in a {@link ClassValue} and keyed by parameter types.
+ */
+public final class ConstructorHandle {
+
+    private static final ClassValue<Map<List<Class<?>>, ConstructorHandle>> CACHE = new ClassValue<Map<List<Class<?>>, ConstructorHandle>>() {
+        @Override
+        protected Map<List<Class<?>>, ConstructorHandle> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final Constructor<?> constructor;
+    private final MethodHandle handle;
+
+    private ConstructorHandle(final Constructor<?> constructor) throws IllegalAccessException {
+        this.constructor = constructor;
+        final Class<?> declaringClass = constructor.getDeclaringClass();
+        this.handle = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup())
+                                   .unreflectConstructor(constructor)
+                                   .asFixedArity()
+                                   .asSpreader(Object[].class, constructor.getParameterCount())
+                                   .asType(SPREAD_TYPE);
+    }
+
+    public static ConstructorHandle of(final Constructor<?> constructor) throws IllegalAccessException {
+        final Map<List<Class<?>>, ConstructorHandle> handles = CACHE.get(constructor.getDeclaringClass());
+        final List<Class<?>> signature = List.of(constructor.getParameterTypes());
+        final ConstructorHandle handle = handles.get(signature);
+        return handle != null
+               ? handle
+               : cache(handles, signature, new ConstructorHandle(constructor));
+    }
+
+    /**
+     * Finds handle of constructor declared in given class with given parameter types.
+     *
+     * @throws NoSuchMethodException if the class does not declare such constructor
+     * @throws IllegalAccessException if the constructor cannot be accessed
+     */
+    public static ConstructorHandle find(final Class<?> clazz, final Class<?>... parameterTypes)
+            throws NoSuchMethodException, IllegalAccessException {
+        final Map<List<Class<?>>, ConstructorHandle> handles = CACHE.get(clazz);
+        final List<Class<?>> signature = List.of(parameterTypes);
+        final ConstructorHandle handle = handles.get(signature);
+        return handle != null
+               ? handle
+               : cache(handles, signature, new ConstructorHandle(clazz.getDeclaredConstructor(parameterTypes)));
+    }
+
+    public Constructor<?> getConstructor() {
+        return constructor;
+    }
+
+    /**
+     * Creates new instance. Exceptions thrown by the constructor are propagated as they are, without being wrapped in
+     * {@link java.lang.reflect.InvocationTargetException}.
+     */
+    public Object newInstance(final Object... arguments) throws Throwable {
+        return (Object) handle.invokeExact(arguments);
+    }
+
+    private static ConstructorHandle cache(final Map<List<Class<?>>, ConstructorHandle> handles,
+                                           final List<Class<?>> signature,
+                                           final ConstructorHandle handle) {
+        final ConstructorHandle previous = handles.putIfAbsent(signature, handle);
+        return previous != null
+               ? previous
+               : handle;
+    }
+}
@@ -0,0 +1,81 @@
+package com.java.pojo.internal.utils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Permutes fields into subsets, such that for every {@code strength} fields each combination of them being changed or
+ * not is present in some subset.
+ * <p>
+ * Subsets are rows of a covering array built by {@link CoveringArrays}, so their number grows logarithmically with the
+ * number of fields. When there are no more fields than {@code strength}, all non-empty subsets are produced, like
+ * {@link ThoroughFieldPermutator} does. Rows that change no field are skipped.
+ */
+public class CoveringArrayFieldPermutator implements Permutator {
+
+    private static final int CHANGED = 1;
+
+    private final int strength;
+
+    public CoveringArrayFieldPermutator(final int strength) {
+        if (strength < 1) {
+            throw new IllegalArgumentException("Strength must be at least 1, got " + strength);
+        }
+        this.strength = strength;
+    }
+
+    @Override
+    public List<List<Field>> permute(final List<Field> elements) {
+        return stream(elements).collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<List<Field>> stream(final List<Field> elements) {
+        final List<Field> fields = new ArrayList<>(elements);
+        final int[] levels = new int[fields.size()];
+        Arrays.fill(levels, 2);
+        return CoveringArrays.of(levels, strength)
+                             .stream()
+                             .map(row -> fieldsOf(fields, row))
+                             .filter(subset -> !subset.isEmpty());
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return strength == ((CoveringArrayFieldPermutator) o).strength;
+    }
+
+    @Override
+    public int hashCode() {
+        return strength;
+    }
+
+    @Override
+    public String toString() {
+        return "CoveringArrayFieldPermutator(strength=" + strength + ")";
+    }
+
+    private static List<Field> fieldsOf(final List<Field> fields, final int[] row) {
+        final List<Field> result = new ArrayList<>();
+        for (int i = 0; i < row.length; i++) {
+            if (row[i] == CHANGED) {
+                result.add(fields.get(i));
+            }
+        }
+        return result;
+    }
+}
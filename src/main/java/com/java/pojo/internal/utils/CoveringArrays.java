@@ -0,0 +1,237 @@
+package com.java.pojo.internal.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Builds covering arrays: sets of rows in which every combination of values of any {@code strength} parameters
+ * appears at least once.
+ * <p>
+ * Arrays are built with the in-parameter-order strategy. Rows covering the first {@code strength} parameters are
+ * enumerated, and every next parameter is added by first extending existing rows with the value covering most
+ * uncovered combinations, and then adding rows for combinations that are still uncovered. The number of rows grows
+ * logarithmically with the number of parameters, instead of exponentially like their cartesian product.
+ */
+public final class CoveringArrays {
+
+    private static final int DONT_CARE = -1;
+
+    private CoveringArrays() {
+    }
+
+    /**
+     * Builds covering array for parameters with given numbers of values.
+     *
+     * @param levels   number of values of each parameter, each at least one
+     * @param strength number of parameters whose every combination of values has to be covered
+     * @return rows of the array, {@code i}-th element of a row is the value of {@code i}-th parameter, from zero
+     * @throws IllegalArgumentException if strength is lower than one or any parameter has no values
+     */
+    public static List<int[]> of(final int[] levels, final int strength) {
+        if (strength < 1) {
+            throw new IllegalArgumentException("Strength must be at least 1, got " + strength);
+        }
+        for (final int level : levels) {
+            if (level < 1) {
+                throw new IllegalArgumentException("Every parameter must have at least one value, got "
+                                                   + Arrays.toString(levels));
+            }
+        }
+        final int width = levels.length;
+        if (width == 0) {
+            return new ArrayList<>();
+        }
+        final int initialWidth = Math.min(strength, width);
+        final List<int[]> rows = cartesianProduct(levels, initialWidth, width);
+        for (int parameter = initialWidth; parameter < width; parameter++) {
+            final List<Interaction> interactions = interactionsOf(levels, parameter, strength - 1);
+            growHorizontally(rows, levels, parameter, interactions);
+            growVertically(rows, width, interactions);
+        }
+        for (final int[] row : rows) {
+            for (int i = 0; i < width; i++) {
+                if (row[i] == DONT_CARE) {
+                    row[i] = 0;
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static List<int[]> cartesianProduct(final int[] levels, final int parameters, final int width) {
+        final List<int[]> rows = new ArrayList<>();
+        final int[] values = new int[parameters];
+        while (true) {
+            final int[] row = new int[width];
+            Arrays.fill(row, DONT_CARE);
+            System.arraycopy(values, 0, row, 0, parameters);
+            rows.add(row);
+            int i = parameters - 1;
+            while (i >= 0 && ++values[i] == levels[i]) {
+                values[i] = 0;
+                i--;
+            }
+            if (i < 0) {
+                return rows;
+            }
+        }
+    }
+
+    private static void growHorizontally(final List<int[]> rows,
+                                         final int[] levels,
+                                         final int parameter,
+                                         final List<Interaction> interactions) {
+        for (final int[] row : rows) {
+            int bestValue = 0;
+            int bestCount = -1;
+            for (int value = 0; value < levels[parameter]; value++) {
+                int count = 0;
+                for (final Interaction interaction : interactions) {
+                    if (interaction.isUncoveredBy(row, value)) {
+                        count++;
+                    }
+                }
+                if (count > bestCount) {
+                    bestCount = count;
+                    bestValue = value;
+                }
+            }
+            row[parameter] = bestValue;
+            for (final Interaction interaction : interactions) {
+                interaction.coverBy(row);
+            }
+        }
+    }
+
+    private static void growVertically(final List<int[]> rows, final int width, final List<Interaction> interactions) {
+        for (final Interaction interaction : interactions) {
+            for (int tuple = 0; tuple < interaction.covered.length; tuple++) {
+                if (interaction.covered[tuple]) {
+                    continue;
+                }
+                final int[] values = interaction.valuesOf(tuple);
+                int[] target = null;
+                for (int i = 0; i < rows.size() && target == null; i++) {
+                    if (interaction.fits(rows.get(i), values)) {
+                        target = rows.get(i);
+                    }
+                }
+                if (target == null) {
+                    target = new int[width];
+                    Arrays.fill(target, DONT_CARE);
+                    rows.add(target);
+                }
+                interaction.assign(target, values);
+                for (final Interaction other : interactions) {
+                    other.coverBy(target);
+                }
+            }
+        }
+    }
+
+    /**
+     * All combinations of {@code size} parameters preceding {@code parameter}, each joined with {@code parameter}.
+     */
+    private static List<Interaction> interactionsOf(final int[] levels, final int parameter, final int size) {
+        final List<Interaction> interactions = new ArrayList<>();
+        final int[] combination = new int[size];
+        for (int i = 0; i < size; i++) {
+            combination[i] = i;
+        }
+        while (true) {
+            final int[] parameters = Arrays.copyOf(combination, size + 1);
+            parameters[size] = parameter;
+            interactions.add(new Interaction(levels, parameters));
+            int i = size - 1;
+            while (i >= 0 && combination[i] == parameter - size + i) {
+                i--;
+            }
+            if (i < 0) {
+                return interactions;
+            }
+            combination[i]++;
+            for (int j = i + 1; j < size; j++) {
+                combination[j] = combination[j - 1] + 1;
+            }
+        }
+    }
+
+    /**
+     * Combinations of values of a fixed set of parameters, with flags telling which of them are already covered.
+     */
+    private static final class Interaction {
+
+        private final int[] parameters;
+        private final int[] levels;
+        private final boolean[] covered;
+
+        private Interaction(final int[] allLevels, final int[] parameters) {
+            this.parameters = parameters;
+            this.levels = new int[parameters.length];
+            int tuples = 1;
+            for (int i = 0; i < parameters.length; i++) {
+                levels[i] = allLevels[parameters[i]];
+                tuples *= levels[i];
+            }
+            this.covered = new boolean[tuples];
+        }
+
+        private boolean isUncoveredBy(final int[] row, final int lastValue) {
+            final int tuple = tupleOf(row, lastValue);
+            return tuple >= 0 && !covered[tuple];
+        }
+
+        private void coverBy(final int[] row) {
+            final int tuple = tupleOf(row, row[parameters[parameters.length - 1]]);
+            if (tuple >= 0) {
+                covered[tuple] = true;
+            }
+        }
+
+        private boolean fits(final int[] row, final int[] values) {
+            for (int i = 0; i < parameters.length; i++) {
+                final int value = row[parameters[i]];
+                if (value != DONT_CARE && value != values[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void assign(final int[] row, final int[] values) {
+            for (int i = 0; i < parameters.length; i++) {
+                row[parameters[i]] = values[i];
+            }
+        }
+
+        private int[] valuesOf(final int tuple) {
+            final int[] values = new int[parameters.length];
+            int remaining = tuple;
+            for (int i = parameters.length - 1; i >= 0; i--) {
+                values[i] = remaining % levels[i];
+                remaining /= levels[i];
+            }
+            return values;
+        }
+
+        /**
+         * @return index of combination of values the row has for parameters of this interaction, or {@code -1} if
+         * the row does not have a value for some of them
+         */
+        private int tupleOf(final int[] row, final int lastValue) {
+            int tuple = 0;
+            for (int i = 0; i < parameters.length - 1; i++) {
+                final int value = row[parameters[i]];
+                if (value == DONT_CARE) {
+                    return -1;
+                }
+                tuple = tuple * levels[i] + value;
+            }
+            if (lastValue == DONT_CARE) {
+                return -1;
+            }
+            return tuple * levels[parameters.length - 1] + lastValue;
+        }
+    }
+}
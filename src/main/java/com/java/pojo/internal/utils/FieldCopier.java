@@ -0,0 +1,104 @@
+package com.java.pojo.internal.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copies values of all instance fields, including inherited ones, from one object to another object of the same class.
+ * <p>
+ * For each class a single copy routine is composed once from exact-type field handles, so one copy is one handle
+ * invocation and primitive values are not boxed. The JVM spins and compiles the routine like generated bytecode, and
+ * unlike a generated class it can still reach private fields of the copied class. Classes whose fields cannot be
+ * resolved to handles are copied reflectively through {@link FieldUtils}. {@code final} fields are skipped in both
+ * cases. Copiers are cached per class in a {@link ClassValue}.
+ */
+public final class FieldCopier {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FieldCopier.class);
+
+    private static final ClassValue<FieldCopier> CACHE = new ClassValue<FieldCopier>() {
+        @Override
+        protected FieldCopier computeValue(final Class<?> type) {
+            return new FieldCopier(type);
+        }
+    };
+    private static final MethodType COPY_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodHandle NO_FIELDS = MethodHandles.empty(COPY_TYPE);
+
+    private final Class<?> clazz;
+    private final List<Field> fields;
+    private final MethodHandle copyRoutine;
+
+    private FieldCopier(final Class<?> clazz) {
+        this.clazz = clazz;
+        this.fields = ClassMetadata.of(clazz)
+                                   .getAllFields();
+        this.copyRoutine = composeCopyRoutine();
+    }
+
+    public static FieldCopier of(final Class<?> clazz) {
+        return CACHE.get(clazz);
+    }
+
+    /**
+     * Copies values of all non-final fields of {@code source} to {@code target}.
+     */
+    public void copy(final Object source, final Object target) {
+        if (copyRoutine == null) {
+            copyReflectively(source, target);
+            return;
+        }
+        try {
+            copyRoutine.invokeExact(source, target);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    boolean isGenerated() {
+        return copyRoutine != null;
+    }
+
+    private void copyReflectively(final Object source, final Object target) {
+        for (final Field field : fields) {
+            if (!FieldUtils.isFinal(field)) {
+                FieldUtils.setValue(target, field, FieldUtils.getValue(source, field));
+            }
+        }
+    }
+
+    private MethodHandle composeCopyRoutine() {
+        try {
+            MethodHandle routine = NO_FIELDS;
+            for (final Field field : fields) {
+                final FieldHandle handle = FieldHandle.of(field);
+                if (handle.exactSetter() != null) {
+                    routine = MethodHandles.foldArguments(routine, copyOf(handle));
+                }
+            }
+            return routine;
+        } catch (final RuntimeException e) {
+            LOGGER.debug("Could not compose copy routine for class {}. Fields will be copied reflectively.", clazz, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return handle of type {@code (Object source, Object target)void} copying value of single field
+     */
+    private static MethodHandle copyOf(final FieldHandle handle) {
+        final MethodHandle setter = handle.exactSetter();
+        final MethodHandle getter = handle.exactGetter();
+        final MethodHandle targetFirst = MethodHandles.filterArguments(setter, 1, getter);
+        return MethodHandles.permuteArguments(targetFirst, COPY_TYPE, 1, 0);
+    }
+}
@@ -0,0 +1,275 @@
+package com.java.pojo.internal.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.java.pojo.internal.GetOrSetValueException;
+
+/**
+ * Resolved accessor of a single instance field.
+ * <p>
+ * Each field resolves its {@link VarHandle} once. Handles are cached per declaring class in a {@link ClassValue}, so
+ * they are released together with the class. Reads and writes use exact-type method handles derived from the
+ * {@link VarHandle}, which lets primitive fields be accessed without boxing through the typed accessors.
+ */
+public final class FieldHandle {
+
+    private static final ClassValue<Map<Field, FieldHandle>> CACHE = new ClassValue<Map<Field, FieldHandle>>() {
+        @Override
+        protected Map<Field, FieldHandle> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final boolean isFinal;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle exactGetter;
+    private final MethodHandle exactSetter;
+
+    private FieldHandle(final Field field) {
+        this.field = field;
+        this.isFinal = Modifier.isFinal(field.getModifiers());
+        final Class<?> type = field.getType();
+        final MethodHandle rawGetter;
+        final MethodHandle rawSetter;
+        try {
+            final VarHandle varHandle = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                                                     .unreflectVarHandle(field);
+            rawGetter = varHandle.toMethodHandle(VarHandle.AccessMode.GET);
+            rawSetter = isFinal
+                        ? null
+                        : varHandle.toMethodHandle(VarHandle.AccessMode.SET);
+        } catch (final IllegalAccessException | IllegalArgumentException e) {
+            throw new GetOrSetValueException(field.getName(), field.getDeclaringClass(), e);
+        }
+        this.getter = rawGetter.asType(GETTER_TYPE);
+        this.exactGetter = rawGetter.asType(MethodType.methodType(type, Object.class));
+        if (rawSetter == null) {
+            this.setter = null;
+            this.exactSetter = null;
+        } else {
+            this.setter = rawSetter.asType(SETTER_TYPE);
+            this.exactSetter = rawSetter.asType(MethodType.methodType(void.class, Object.class, type));
+        }
+    }
+
+    public static FieldHandle of(final Field field) {
+        final Map<Field, FieldHandle> handles = CACHE.get(field.getDeclaringClass());
+        final FieldHandle handle = handles.get(field);
+        return handle != null
+               ? handle
+               : handles.computeIfAbsent(field, FieldHandle::new);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * @return handle of type {@code (Object)fieldType} reading the field
+     */
+    MethodHandle exactGetter() {
+        return exactGetter;
+    }
+
+    /**
+     * @return handle of type {@code (Object, fieldType)void} writing the field, or {@code null} for {@code final} fields
+     */
+    MethodHandle exactSetter() {
+        return exactSetter;
+    }
+
+    public Object get(final Object targetObject) {
+        try {
+            return (Object) getter.invokeExact(targetObject);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    /**
+     * Sets the value of the field. Writes to {@code final} fields are ignored.
+     */
+    public void set(final Object targetObject, final Object value) {
+        if (isFinal) {
+            return;
+        }
+        try {
+            setter.invokeExact(targetObject, value);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    public boolean getBoolean(final Object targetObject) {
+        try {
+            return (boolean) exactGetter.invokeExact(targetObject);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    public byte getByte(final Object targetObject) {
+        try {
+            return (byte) exactGetter.invokeExact(targetObject);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    public char getChar(final Object targetObject) {
+        try {
+            return (char) exactGetter.invokeExact(targetObject);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    public short getShort(final Object targetObject) {
+        try {
+            return (short) exactGetter.invokeExact(targetObject);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    public int getInt(final Object targetObject) {
+        try {
+            return (int) exactGetter.invokeExact(targetObject);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    public long getLong(final Object targetObject) {
+        try {
+            return (long) exactGetter.invokeExact(targetObject);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    public float getFloat(final Object targetObject) {
+        try {
+            return (float) exactGetter.invokeExact(targetObject);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    public double getDouble(final Object targetObject) {
+        try {
+            return (double) exactGetter.invokeExact(targetObject);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    public void setBoolean(final Object targetObject, final boolean value) {
+        if (isFinal) {
+            return;
+        }
+        try {
+            exactSetter.invokeExact(targetObject, value);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    public void setByte(final Object targetObject, final byte value) {
+        if (isFinal) {
+            return;
+        }
+        try {
+            exactSetter.invokeExact(targetObject, value);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    public void setChar(final Object targetObject, final char value) {
+        if (isFinal) {
+            return;
+        }
+        try {
+            exactSetter.invokeExact(targetObject, value);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    public void setShort(final Object targetObject, final short value) {
+        if (isFinal) {
+            return;
+        }
+        try {
+            exactSetter.invokeExact(targetObject, value);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    public void setInt(final Object targetObject, final int value) {
+        if (isFinal) {
+            return;
+        }
+        try {
+            exactSetter.invokeExact(targetObject, value);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    public void setLong(final Object targetObject, final long value) {
+        if (isFinal) {
+            return;
+        }
+        try {
+            exactSetter.invokeExact(targetObject, value);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    public void setFloat(final Object targetObject, final float value) {
+        if (isFinal) {
+            return;
+        }
+        try {
+            exactSetter.invokeExact(targetObject, value);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    public void setDouble(final Object targetObject, final double value) {
+        if (isFinal) {
+            return;
+        }
+        try {
+            exactSetter.invokeExact(targetObject, value);
+        } catch (final Throwable e) {
+            throw accessFailure(e);
+        }
+    }
+
+    private RuntimeException accessFailure(final Throwable cause) {
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        final Exception exception = cause instanceof Exception
+                                    ? (Exception) cause
+                                    : new ReflectiveOperationException(cause);
+        return new GetOrSetValueException(field.getName(), field.getDeclaringClass(), exception);
+    }
+}
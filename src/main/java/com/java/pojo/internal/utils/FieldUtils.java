@@ -1,10 +1,7 @@
 package com.java.pojo.internal.utils;
 
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -18,8 +15,7 @@ public final class FieldUtils {
 	}
 
 	public static List<Field> getAllFields(final Class<?> clazz) {
-		return Arrays.stream(clazz.getDeclaredFields()).filter(FieldUtils::isNotSynthetic)
-				.filter(FieldUtils::isNotStatic).toList();
+		return ClassMetadata.of(clazz).getDeclaredFields();
 	}
 
 	public static List<Field> getAllFieldsExcluding(final Class<?> clazz, final List<String> excludedFields) {
@@ -34,55 +30,31 @@ public final class FieldUtils {
 	}
 
 	public static List<String> getAllFieldNames(final Class<?> clazz) {
-		return getAllFields(clazz).stream().map(Field::getName).toList();
+		return ClassMetadata.of(clazz).getDeclaredFieldNames();
 	}
 
-	// Method to get the value of a private field using MethodHandles
+	// Method to get the value of a private field using its cached VarHandle
 	public static Object getFieldValue21(Object targetObject, Field field) {
-		
 		try {
 			if(null == targetObject) {
 				return field.get(targetObject);
 			}
-			// Get the class of the object
-			Class<?> clazz = targetObject.getClass();
-
-			// Create a VarHandle to access the private field
-			VarHandle varHandle = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup()).findVarHandle(clazz, field.getName(),
-					field.getType());
-
-			// Return the value of the field for the given object
-			return varHandle.get(targetObject);
-		} catch (NoSuchFieldException | IllegalAccessException e) {
-			throw new GetOrSetValueException(field.getName(), targetObject.getClass(), e);
+			return FieldHandle.of(field).get(targetObject);
+		} catch (IllegalAccessException e) {
+			throw new GetOrSetValueException(field.getName(), field.getDeclaringClass(), e);
 		}
-
 	}
 
-	// Method to set the value of a private or final field using MethodHandles
+	// Method to set the value of a private field using its cached VarHandle. Writes to final fields are ignored.
 	public static void setFieldValue21(Object targetObject, Field field, Object newValue) {
 		try {
 			if(null == targetObject) {
 				field.set(targetObject, newValue);
 				return;
 			}
-			
-			// Return if someone tries to modify a final field. 
-			if(Modifier.isFinal(field.getModifiers())) {
-				return;
-			}
-			
-			// Get the class of the object
-			Class<?> clazz = targetObject.getClass();
-
-			// Create a VarHandle to access the private or final field
-			VarHandle varHandle = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup()).findVarHandle(clazz, field.getName(),
-					field.getType());
-
-			// Set the value of the field for the given object
-			varHandle.set(targetObject, newValue);
-		} catch (NoSuchFieldException | IllegalAccessException e) {
-			throw new GetOrSetValueException(field.getName(), targetObject.getClass(), e);
+			FieldHandle.of(field).set(targetObject, newValue);
+		} catch (IllegalAccessException e) {
+			throw new GetOrSetValueException(field.getName(), field.getDeclaringClass(), e);
 		}
 	}
 
@@ -119,14 +91,6 @@ public final class FieldUtils {
 		return !fields.isEmpty();
 	}
 
-	private static boolean isNotSynthetic(final Field field) {
-		return !field.isSynthetic();
-	}
-
-	private static boolean isNotStatic(final Field field) {
-		return !Modifier.isStatic(field.getModifiers());
-	}
-
 	private static boolean doesNotContain(final Field field, final List<String> excludedFields) {
 		return !excludedFields.contains(field.getName());
 	}
@@ -0,0 +1,30 @@
+package com.java.pojo.internal.utils;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Permutes fields into all their non-empty subsets, like {@link ThoroughFieldPermutator}, but in the order of the
+ * reflected binary Gray code. Each next subset differs from the previous one by exactly one field, so an object can be
+ * turned into the next one with a single field write.
+ */
+public class GrayCodeFieldPermutator extends ThoroughFieldPermutator {
+
+    @Override
+    protected long subsetAt(final long index) {
+        return index ^ (index >>> 1);
+    }
+
+    /**
+     * Produces, for each subset produced by {@link #stream(List)}, index of the single field that subset adds to or
+     * removes from the previous one. The first subset is compared with the empty one. No list of fields is created, so
+     * each index costs constant time.
+     */
+    public IntStream toggledFieldIndexes(final List<Field> elements) {
+        checkFieldCount(elements);
+        return LongStream.range(1, 1L << elements.size())
+                         .mapToInt(Long::numberOfTrailingZeros);
+    }
+}
@@ -0,0 +1,192 @@
+package com.java.pojo.internal.utils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Functional accessors generated for getter and setter methods.
+ * <p>
+ * Each method is turned into a {@link Function} (getters) or a {@link BiConsumer} (setters) through
+ * {@link LambdaMetafactory}, so invoking it costs about as much as a direct call. Methods the metafactory cannot bind
+ * fall back to a {@link MethodHandle}. Methods of classes this library cannot look up privately, e.g. because they
+ * are not open to it, are made accessible and invoked through reflection. Accessors are generated once per method and
+ * cached per declaring class in a {@link ClassValue}.
+ * <p>
+ * Accessors do not wrap exceptions thrown by the accessed method. A fallback accessor wraps checked exceptions in
+ * {@link UndeclaredThrowableException}.
+ */
+public final class MethodAccessors {
+
+    private static final ClassValue<Map<Method, Function<Object, Object>>> GETTERS = new ClassValue<Map<Method, Function<Object, Object>>>() {
+        @Override
+        protected Map<Method, Function<Object, Object>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private static final ClassValue<Map<Method, BiConsumer<Object, Object>>> SETTERS = new ClassValue<Map<Method, BiConsumer<Object, Object>>>() {
+        @Override
+        protected Map<Method, BiConsumer<Object, Object>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private static final MethodType FUNCTION_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType BI_CONSUMER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private MethodAccessors() {
+    }
+
+    public static Function<Object, Object> getter(final Method getter) {
+        final Map<Method, Function<Object, Object>> getters = GETTERS.get(getter.getDeclaringClass());
+        final Function<Object, Object> accessor = getters.get(getter);
+        return accessor != null
+               ? accessor
+               : getters.computeIfAbsent(getter, MethodAccessors::createGetter);
+    }
+
+    public static BiConsumer<Object, Object> setter(final Method setter) {
+        final Map<Method, BiConsumer<Object, Object>> setters = SETTERS.get(setter.getDeclaringClass());
+        final BiConsumer<Object, Object> accessor = setters.get(setter);
+        return accessor != null
+               ? accessor
+               : setters.computeIfAbsent(setter, MethodAccessors::createSetter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createGetter(final Method getter) {
+        final MethodHandles.Lookup lookup = lookupFor(getter);
+        if (lookup == null) {
+            return reflectiveGetter(getter);
+        }
+        final MethodHandle handle = unreflect(lookup, getter);
+        if (!Modifier.isStatic(getter.getModifiers())) {
+            try {
+                final CallSite callSite = LambdaMetafactory.metafactory(lookup,
+                                                                        "apply",
+                                                                        MethodType.methodType(Function.class),
+                                                                        FUNCTION_TYPE,
+                                                                        handle,
+                                                                        handle.type()
+                                                                              .wrap());
+                return (Function<Object, Object>) callSite.getTarget()
+                                                          .invoke();
+            } catch (final Throwable e) {
+                // fall back to method handle below
+            }
+        }
+        final MethodHandle fallback = receiverFirst(handle, getter).asType(FUNCTION_TYPE);
+        return object -> {
+            try {
+                return (Object) fallback.invokeExact(object);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> createSetter(final Method setter) {
+        final MethodHandles.Lookup lookup = lookupFor(setter);
+        if (lookup == null) {
+            return reflectiveSetter(setter);
+        }
+        final MethodHandle handle = unreflect(lookup, setter);
+        if (!Modifier.isStatic(setter.getModifiers())) {
+            try {
+                final CallSite callSite = LambdaMetafactory.metafactory(lookup,
+                                                                        "accept",
+                                                                        MethodType.methodType(BiConsumer.class),
+                                                                        BI_CONSUMER_TYPE,
+                                                                        handle,
+                                                                        handle.type()
+                                                                              .wrap()
+                                                                              .changeReturnType(void.class));
+                return (BiConsumer<Object, Object>) callSite.getTarget()
+                                                            .invoke();
+            } catch (final Throwable e) {
+                // fall back to method handle below
+            }
+        }
+        final MethodHandle fallback = receiverFirst(handle, setter).asType(BI_CONSUMER_TYPE);
+        return (object, value) -> {
+            try {
+                fallback.invokeExact(object, value);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        };
+    }
+
+    static Function<Object, Object> reflectiveGetter(final Method getter) {
+        makeAccessible(getter);
+        return object -> invoke(getter, object);
+    }
+
+    static BiConsumer<Object, Object> reflectiveSetter(final Method setter) {
+        makeAccessible(setter);
+        return (object, value) -> invoke(setter, object, value);
+    }
+
+    /**
+     * @return lookup with private access to the declaring class of {@code method}, or {@code null} if this library
+     * has no such access
+     */
+    private static MethodHandles.Lookup lookupFor(final Method method) {
+        try {
+            return MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+        } catch (final IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static void makeAccessible(final Method method) {
+        if (!method.trySetAccessible()) {
+            throw new IllegalArgumentException("Cannot access method " + method);
+        }
+    }
+
+    private static Object invoke(final Method method, final Object object, final Object... arguments) {
+        try {
+            return method.invoke(object, arguments);
+        } catch (final InvocationTargetException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new UndeclaredThrowableException(cause);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access method " + method, e);
+        }
+    }
+
+    private static MethodHandle unreflect(final MethodHandles.Lookup lookup, final Method method) {
+        try {
+            return lookup.unreflect(method);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access method " + method, e);
+        }
+    }
+
+    private static MethodHandle receiverFirst(final MethodHandle handle, final Method method) {
+        return Modifier.isStatic(method.getModifiers())
+               ? MethodHandles.dropArguments(handle, 0, Object.class)
+               : handle;
+    }
+}
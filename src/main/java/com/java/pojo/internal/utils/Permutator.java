@@ -2,8 +2,17 @@ package com.java.pojo.internal.utils;
 
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface Permutator {
 
     List<List<Field>> permute(final List<Field> elements);
+
+    /**
+     * Produces the same permutations as {@link #permute(List)}, one at a time. Implementations that can create
+     * permutations on demand should override it, so callers do not hold all permutations in memory at once.
+     */
+    default Stream<List<Field>> stream(final List<Field> elements) {
+        return permute(elements).stream();
+    }
 }
@@ -0,0 +1,130 @@
+package com.java.pojo.internal.utils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Permutes fields into every single field, all fields together, and a budget of other subsets drawn at random.
+ * <p>
+ * Random subsets are drawn from a {@link SplittableRandom} created from the seed, so the same seed and fields always
+ * give the same subsets. At most {@code N + 1 + budget} subsets are produced for N fields. When fields have fewer other
+ * subsets than the budget, all of them are produced.
+ */
+public class SampledFieldPermutator implements Permutator {
+
+    private final long seed;
+    private final int budget;
+
+    public SampledFieldPermutator(final long seed, final int budget) {
+        if (budget < 0) {
+            throw new IllegalArgumentException("Budget must not be negative, got " + budget);
+        }
+        this.seed = seed;
+        this.budget = budget;
+    }
+
+    @Override
+    public List<List<Field>> permute(final List<Field> elements) {
+        return stream(elements).collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<List<Field>> stream(final List<Field> elements) {
+        final List<Field> fields = new ArrayList<>(elements);
+        final int size = fields.size();
+        final Set<BitSet> subsets = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            subsets.add(subsetOf(i));
+        }
+        final BitSet allFields = new BitSet(size);
+        allFields.set(0, size);
+        subsets.add(allFields);
+        if (hasAtMostOtherSubsets(size, budget)) {
+            addAllSubsets(subsets, size);
+        } else {
+            addRandomSubsets(subsets, size);
+        }
+        return subsets.stream()
+                      .filter(subset -> !subset.isEmpty())
+                      .map(subset -> fieldsOf(fields, subset));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SampledFieldPermutator that = (SampledFieldPermutator) o;
+        return seed == that.seed && budget == that.budget;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(seed) + budget;
+    }
+
+    @Override
+    public String toString() {
+        return "SampledFieldPermutator(seed=" + seed + ", budget=" + budget + ")";
+    }
+
+    private void addRandomSubsets(final Set<BitSet> subsets, final int size) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final int expectedSize = subsets.size() + budget;
+        while (subsets.size() < expectedSize) {
+            final BitSet subset = new BitSet(size);
+            for (int i = 0; i < size; i++) {
+                if (random.nextBoolean()) {
+                    subset.set(i);
+                }
+            }
+            if (!subset.isEmpty()) {
+                subsets.add(subset);
+            }
+        }
+    }
+
+    private static void addAllSubsets(final Set<BitSet> subsets, final int size) {
+        for (long mask = 1; mask < 1L << size; mask++) {
+            subsets.add(BitSet.valueOf(new long[]{ mask }));
+        }
+    }
+
+    /**
+     * @return {@code true} if there are no more than {@code budget} non-empty subsets other than single fields and
+     * all fields
+     */
+    private static boolean hasAtMostOtherSubsets(final int size, final int budget) {
+        return size < Long.SIZE - 2 && (1L << size) - 1 - size - 1 <= budget;
+    }
+
+    private static BitSet subsetOf(final int field) {
+        final BitSet subset = new BitSet();
+        subset.set(field);
+        return subset;
+    }
+
+    private static List<Field> fieldsOf(final List<Field> fields, final BitSet subset) {
+        return subset.stream()
+                     .mapToObj(fields::get)
+                     .collect(Collectors.toList());
+    }
+}
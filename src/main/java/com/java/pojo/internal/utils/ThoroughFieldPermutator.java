@@ -1,12 +1,55 @@
 package com.java.pojo.internal.utils;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
+/**
+ * Permutes fields into all their non-empty subsets.
+ * <p>
+ * Each subset is encoded as a {@code long} bitmask, where bit {@code i} stands for {@code i}-th field, and the list of
+ * fields is created only when the subset is reached. Subsets are produced in the order of their bitmasks.
+ */
 public class ThoroughFieldPermutator implements Permutator {
 
+    private static final int MAX_FIELDS = Long.SIZE - 2;
+
     @Override
     public List<List<Field>> permute(final List<Field> elements) {
-        return FieldUtils.permutations(elements);
+        return stream(elements).collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<List<Field>> stream(final List<Field> elements) {
+        checkFieldCount(elements);
+        final List<Field> fields = new ArrayList<>(elements);
+        return LongStream.range(1, 1L << fields.size())
+                         .map(this::subsetAt)
+                         .mapToObj(subset -> fieldsOf(fields, subset));
+    }
+
+    /**
+     * @return bitmask of subset produced as {@code index}-th, counting from one
+     */
+    protected long subsetAt(final long index) {
+        return index;
+    }
+
+    static void checkFieldCount(final List<Field> elements) {
+        if (elements.size() > MAX_FIELDS) {
+            throw new IllegalArgumentException("Cannot permute more than " + MAX_FIELDS + " fields, got "
+                                               + elements.size());
+        }
+    }
+
+    private static List<Field> fieldsOf(final List<Field> fields, final long subset) {
+        final List<Field> result = new ArrayList<>(Long.bitCount(subset));
+        for (long remaining = subset; remaining != 0; remaining &= remaining - 1) {
+            result.add(fields.get(Long.numberOfTrailingZeros(remaining)));
+        }
+        return result;
     }
 }
@@ -106,6 +106,64 @@ class FieldPredicateTest {
         };
     }
 
+    @Test
+    void Should_Return_Same_Predicate_For_All_Fields_Of_Same_Class() {
+        // given
+        final Predicate<String> expectedResult = FieldPredicate.includeAllFields(TestPredicate.class);
+
+        // when
+        final Predicate<String> result = FieldPredicate.includeAllFields(TestPredicate.class);
+
+        // then
+        assertThat(result).isSameAs(expectedResult);
+    }
+
+    @Test
+    void Should_Not_Accept_Other_Fields_Than_Included() {
+        // given
+        final Predicate<String> predicate = FieldPredicate.include("a", "b");
+
+        // when
+        final Predicate<String> result = predicate.negate();
+
+        // then
+        assertThat(predicate).rejects("c", "ab");
+        assertThat(result).rejects("a", "b")
+                          .accepts("c", "ab");
+    }
+
+    @Test
+    void Should_Accept_Other_Fields_Than_Excluded() {
+        // given
+        final Predicate<String> predicate = FieldPredicate.exclude("a", "b");
+
+        // when
+        final Predicate<String> result = predicate.negate();
+
+        // then
+        assertThat(predicate).accepts("c", "ab");
+        assertThat(result).accepts("a", "b")
+                          .rejects("c", "ab");
+    }
+
+    @Test
+    void Should_Name_Included_And_Excluded_Fields() {
+        // given
+        final Predicate<String> included = FieldPredicate.include("a", "b", "a");
+        final Predicate<String> excluded = FieldPredicate.exclude("a", "b");
+
+        // when
+        final String includedName = included.toString();
+        final String excludedName = excluded.toString();
+
+        // then
+        assertThat(includedName).isEqualTo("a,b");
+        assertThat(excludedName).isEqualTo("!(a,b)");
+        assertThat(included.negate()).hasToString("!(a,b)")
+                                     .isEqualTo(excluded);
+        assertThat(excluded.negate()).hasToString("a,b");
+    }
+
     private class TestPredicate {
 
         private int a;
@@ -9,15 +9,24 @@ import com.java.pojo.api.ConstructorParameters;
 import com.java.pojo.internal.assertion.AbstractAssertionError;
 import com.java.pojo.internal.field.AbstractFieldValueChanger;
 import com.java.pojo.internal.field.DefaultFieldValueChanger;
+import com.java.pojo.internal.instantiator.GenerationSession;
+import com.java.pojo.internal.instantiator.NestedObjectsCombination;
+import com.java.pojo.internal.utils.CoveringArrayFieldPermutator;
 import com.java.pojo.internal.utils.SublistFieldPermutator;
 
 import artefact.classes.fields.TestEnum1;
 
+import com.java.pojo.internal.tester.AbstractTester;
+import com.java.pojo.internal.tester.EqualsAndHashCodeTester;
 import com.java.pojo.internal.tester.EqualsTester;
 import com.java.pojo.internal.tester.HashCodeTester;
 import com.java.pojo.internal.utils.CollectionUtils;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Random;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -28,6 +37,21 @@ import static org.powermock.reflect.Whitebox.setInternalState;
 
 class AbstractAssertionTest {
 
+    @Test
+    void Should_Test_Equals_And_HashCode_In_Single_Pass_By_Default() {
+        // given
+        final AbstractAssertion abstractAssertion = new AbstractAssertionImplementation();
+
+        // when
+        abstractAssertion.areWellImplemented();
+        final Set<AbstractTester> result = getInternalState(abstractAssertion, "testers");
+
+        // then
+        assertThat(result).hasAtLeastOneElementOfType(EqualsAndHashCodeTester.class)
+                          .noneMatch(tester -> tester instanceof EqualsTester)
+                          .noneMatch(tester -> tester instanceof HashCodeTester);
+    }
+
     @Test
     void Should_Set_Field_Value_Changer() {
         // given
@@ -150,6 +174,129 @@ class AbstractAssertionTest {
         verify(equalsTester, times(1)).setFieldValuesChanger(expectedFieldsValuesChanger);
     }
 
+    @Test
+    void Should_Set_Pairwise_Permutator_To_Testers() {
+        // given
+        final AbstractAssertion abstractAssertion = new AbstractAssertionImplementation();
+        final EqualsTester equalsTester = mock(EqualsTester.class);
+        setInternalState(abstractAssertion, "testers", CollectionUtils.asSet(equalsTester));
+        abstractAssertion.pairwise();
+
+        // when
+        abstractAssertion.areWellImplemented();
+
+        // then
+        verify(equalsTester, times(1)).setPermutator(new CoveringArrayFieldPermutator(2));
+    }
+
+    @Test
+    void Should_Print_Seed_When_Sampled_Test_Fails() {
+        // given
+        final Class<?> classUnderTest = BadPojoEqualsItself.class;
+
+        // when
+        final Throwable result = catchThrowable(() -> Assertions.assertPojoMethodsFor(classUnderTest)
+                                                                .testing(Method.EQUALS)
+                                                                .sampled(1234L, 8)
+                                                                .areWellImplemented());
+
+        // then
+        assertThat(result).isInstanceOf(AbstractAssertionError.class)
+                          .hasMessageContaining("seed=1234");
+    }
+
+    @Test
+    void Should_Set_Incremental_Generation_To_Testers() {
+        // given
+        final AbstractAssertion abstractAssertion = new AbstractAssertionImplementation();
+        final EqualsTester equalsTester = mock(EqualsTester.class);
+        setInternalState(abstractAssertion, "testers", CollectionUtils.asSet(equalsTester));
+        abstractAssertion.incrementally();
+
+        // when
+        abstractAssertion.areWellImplemented();
+
+        // then
+        verify(equalsTester, times(1)).setIncrementalGeneration(true);
+    }
+
+    @Test
+    void Should_Turn_Off_Incremental_Generation_When_Other_Mode_Is_Chosen_Afterwards() {
+        // given
+        final AbstractAssertion abstractAssertion = new AbstractAssertionImplementation();
+        final EqualsTester equalsTester = mock(EqualsTester.class);
+        setInternalState(abstractAssertion, "testers", CollectionUtils.asSet(equalsTester));
+        abstractAssertion.incrementally()
+                         .thoroughly();
+
+        // when
+        abstractAssertion.areWellImplemented();
+
+        // then
+        verify(equalsTester, times(1)).setIncrementalGeneration(false);
+        verify(equalsTester, never()).setIncrementalGeneration(true);
+    }
+
+    @Test
+    void Should_Set_Nested_Objects_Combination_To_Testers() {
+        // given
+        final AbstractAssertion abstractAssertion = new AbstractAssertionImplementation();
+        final EqualsTester equalsTester = mock(EqualsTester.class);
+        setInternalState(abstractAssertion, "testers", CollectionUtils.asSet(equalsTester));
+        abstractAssertion.combiningNestedObjects(NestedObjectsCombination.pairwise());
+
+        // when
+        abstractAssertion.areWellImplemented();
+
+        // then
+        verify(equalsTester, times(1)).setNestedObjectsCombination(NestedObjectsCombination.pairwise());
+    }
+
+    @Test
+    void Should_Set_Clock_And_Seed_To_Testers() {
+        // given
+        final AbstractAssertion abstractAssertion = new AbstractAssertionImplementation();
+        final EqualsTester equalsTester = mock(EqualsTester.class);
+        setInternalState(abstractAssertion, "testers", CollectionUtils.asSet(equalsTester));
+        final Clock clock = Clock.fixed(Instant.parse("2020-02-29T23:59:59Z"), ZoneOffset.UTC);
+        abstractAssertion.using(clock, 7L);
+
+        // when
+        abstractAssertion.areWellImplemented();
+
+        // then
+        verify(equalsTester, times(1)).setClockAndSeed(clock, 7L);
+    }
+
+    @Test
+    void Should_Set_Generation_Session_To_Testers_And_Release_It_After_Tests() {
+        // given
+        final AbstractAssertion abstractAssertion = new AbstractAssertionImplementation();
+        final EqualsTester equalsTester = mock(EqualsTester.class);
+        setInternalState(abstractAssertion, "testers", CollectionUtils.asSet(equalsTester));
+
+        // when
+        abstractAssertion.areWellImplemented();
+
+        // then
+        verify(equalsTester, times(1)).setGenerationSession(any(GenerationSession.class));
+        verify(equalsTester, times(1)).setGenerationSession(null);
+    }
+
+    @Test
+    void Should_Not_Throw_Exception_When_Class_Has_All_Methods_Well_Implemented_Tested_Incrementally() {
+        // given
+        final Class<?> classUnderTest = GoodPojo_Equals_HashCode_ToString.class;
+
+        // when
+        final Throwable result = catchThrowable(() -> Assertions.assertPojoMethodsFor(classUnderTest)
+                                                                .incrementally()
+                                                                .areWellImplemented());
+
+        // then
+        assertThat(result).isNull();
+    }
+
     @Test
     void Should_Set_User_Defined_Class_And_Constructor_Parameters_To_Tester() {
         // given
@@ -23,7 +23,8 @@ class MethodTest {
                          new TestCase(Method.TO_STRING, ToStringTester.class),
                          new TestCase(Method.SETTER, SetterTester.class),
                          new TestCase(Method.GETTER, GetterTester.class),
-                         new TestCase(Method.CONSTRUCTOR, ConstructorTester.class))
+                         new TestCase(Method.CONSTRUCTOR, ConstructorTester.class),
+                         new TestCase(Method.EQUALS_AND_HASH_CODE, EqualsAndHashCodeTester.class))
                      .map(value -> dynamicTest(getDefaultDisplayName(value), Should_Return_Expected_Tester(value)));
     }
 
@@ -39,6 +39,26 @@ class AbstractAssertionErrorTest {
         assertThat(result).isEqualTo(expectedResult);
     }
 
+    @Test
+    void Should_Append_Reproduction_Hint_To_Message() {
+        // given
+        final Class<String> testedCass = String.class;
+        final String expectedResult = "\n"
+                + "\n"
+                + "\n"
+                + "errorPrefix\n"
+                + "detailedMessage\n"
+                + "hint";
+        final AbstractAssertionError error = new MockOfAssertionError(testedCass);
+        error.setReproductionHint("hint");
+
+        // when
+        final String result = error.getMessage();
+
+        // then
+        assertThat(result).isEqualTo(expectedResult);
+    }
+
     class MockOfAssertionError extends AbstractAssertionError {
 
         MockOfAssertionError(final Class<?> testedCass) {
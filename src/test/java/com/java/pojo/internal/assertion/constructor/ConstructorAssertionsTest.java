@@ -3,9 +3,11 @@ package com.java.pojo.internal.assertion.constructor;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.powermock.reflect.Whitebox.getInternalState;
 
 
 class ConstructorAssertionsTest {
@@ -52,6 +54,73 @@ class ConstructorAssertionsTest {
         assertThat(result).isInstanceOf(ConstructorAssertionError.class);
     }
 
+    @Test
+    void Should_Report_Exception_Thrown_By_Constructor_As_Invocation_Target() throws NoSuchMethodException {
+        // given
+        final Constructor<?> declaredConstructor = ConstructorThrowingException.class.getDeclaredConstructor();
+        final ConstructorAssertions assertions = new ConstructorAssertions(declaredConstructor);
+        final Object[] constructorParameters = null;
+
+        // when
+        final Throwable result = catchThrowable(() -> assertions.willInstantiateClassUsing(constructorParameters));
+
+        // then
+        final Object cause = getInternalState(result, "cause");
+        assertThat(cause).isInstanceOf(InvocationTargetException.class);
+        assertThat(((InvocationTargetException) cause).getTargetException()).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void Should_Report_Wrong_Number_Of_Arguments_As_Illegal_Argument() throws NoSuchMethodException {
+        // given
+        final Constructor<?> declaredConstructor = StringConstructor.class.getDeclaredConstructor(String.class);
+        final ConstructorAssertions assertions = new ConstructorAssertions(declaredConstructor);
+        final Object[] constructorParameters = {"string", "string"};
+
+        // when
+        final Throwable result = catchThrowable(() -> assertions.willInstantiateClassUsing(constructorParameters));
+
+        // then
+        final Object cause = getInternalState(result, "cause");
+        assertThat(cause).isNotInstanceOf(InvocationTargetException.class);
+        assertThat(((Throwable) cause).getCause()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void Should_Report_Wrong_Argument_Type_As_Illegal_Argument() throws NoSuchMethodException {
+        // given
+        final Constructor<?> declaredConstructor = StringConstructor.class.getDeclaredConstructor(String.class);
+        final ConstructorAssertions assertions = new ConstructorAssertions(declaredConstructor);
+        final Object[] constructorParameters = {1};
+
+        // when
+        final Throwable result = catchThrowable(() -> assertions.willInstantiateClassUsing(constructorParameters));
+
+        // then
+        final Object cause = getInternalState(result, "cause");
+        assertThat(cause).isNotInstanceOf(InvocationTargetException.class);
+        assertThat(((Throwable) cause).getCause()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void Should_Not_Throw_Exception_When_Boxed_Argument_Is_Given_For_Primitive_Parameter() throws NoSuchMethodException {
+        // given
+        final Constructor<?> declaredConstructor = LongConstructor.class.getDeclaredConstructor(long.class);
+        final ConstructorAssertions assertions = new ConstructorAssertions(declaredConstructor);
+        final Object[] constructorParameters = {1};
+
+        // when
+        final Throwable result = catchThrowable(() -> assertions.willInstantiateClassUsing(constructorParameters));
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    private static class LongConstructor {
+        LongConstructor(final long number) {
+        }
+    }
+
     private static class StringConstructor {
         StringConstructor(final String string) {
         }
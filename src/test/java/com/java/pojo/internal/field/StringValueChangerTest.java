@@ -9,6 +9,8 @@ import org.junit.jupiter.api.function.Executable;
 
 import artefact.classes.fields.AllFiledTypes;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static helpers.TestHelper.getDefaultDisplayName;
@@ -60,6 +62,50 @@ class StringValueChangerTest {
         };
     }
 
+    @Test
+    void Should_Increase_Value_To_Strings_Of_Fixed_Width() {
+        // given
+        final Set<String> increasedValues = new HashSet<>();
+        String value = "test";
+
+        // when
+        for (int i = 0; i < 5000; i++) {
+            value = valueChanger.increaseValue(value);
+            increasedValues.add(value);
+        }
+
+        // then
+        assertThat(increasedValues).hasSize(5000)
+                                   .allMatch(each -> each.length() == StringValueChanger.WIDTH);
+    }
+
+    @Test
+    void Should_Increase_Any_String_To_Different_One() {
+        // given
+        final String[] values = { null, "", "test", "000000", "zzzzzz", "ZZZZZZ", "00000-" };
+
+        // when
+        for (final String value : values) {
+            final String result = valueChanger.increaseValue(value, String.class);
+
+            // then
+            assertThat(result).isNotEqualTo(value);
+        }
+    }
+
+    @Test
+    void Should_Reuse_Increased_Strings() {
+        // given
+        final String value = "test";
+
+        // when
+        final String result1 = valueChanger.increaseValue(value);
+        final String result2 = valueChanger.increaseValue(value);
+
+        // then
+        assertThat(result1).isSameAs(result2);
+    }
+
     @AllArgsConstructor
     private class TestCase {
         private String value1;
@@ -0,0 +1,129 @@
+package com.java.pojo.internal.field;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class ValueChangerRegistryTest {
+
+    @Test
+    void Should_Resolve_Changers_In_Chain_Order() {
+        // given
+        final AbstractFieldValueChanger first = new StringChanger("first");
+        final AbstractFieldValueChanger second = new StringChanger("second");
+        first.attachNext(second);
+
+        // when
+        final List<AbstractFieldValueChanger> result = new ValueChangerRegistry(first, 0).forType(String.class);
+
+        // then
+        assertThat(result).containsExactly(first, second);
+    }
+
+    @Test
+    void Should_Return_No_Changers_For_Unsupported_Type() {
+        // given
+        final AbstractFieldValueChanger changer = new StringChanger("first");
+
+        // when
+        final List<AbstractFieldValueChanger> result = new ValueChangerRegistry(changer, 0).forType(Integer.class);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void Should_Stop_On_Cycle_In_Chain() {
+        // given
+        final AbstractFieldValueChanger changer = new StringChanger("first");
+        changer.attachNext(changer);
+
+        // when
+        final List<AbstractFieldValueChanger> result = new ValueChangerRegistry(changer, 0).forType(String.class);
+
+        // then
+        assertThat(result).containsExactly(changer);
+    }
+
+    @Test
+    void Should_Use_Changer_Attached_After_First_Use() {
+        // given
+        final AbstractFieldValueChanger head = new StringChanger("head").attachNext(new StringChanger("ignored"));
+        head.increaseValue(1);
+
+        // when
+        head.attachNext(new IntegerChanger());
+        final Object result = head.increaseValue(1);
+
+        // then
+        assertThat(result).isEqualTo(2);
+    }
+
+    @Test
+    void Should_Bind_Field_Once() throws NoSuchFieldException {
+        // given
+        final ValueChangerRegistry registry = new ValueChangerRegistry(new StringChanger("first"), 0);
+        final Field field = WithText.class.getDeclaredField("text");
+
+        // when
+        final BoundField result1 = registry.bind(field);
+        final BoundField result2 = registry.bind(field);
+
+        // then
+        assertThat(result1).isSameAs(result2);
+        assertThat(result1.getField()).isEqualTo(field);
+    }
+
+    @Test
+    void Should_Change_Bound_Field() throws NoSuchFieldException {
+        // given
+        final ValueChangerRegistry registry = new ValueChangerRegistry(new StringChanger("++"), 0);
+        final WithText source = new WithText();
+        final WithText target = new WithText();
+
+        // when
+        registry.bind(WithText.class.getDeclaredField("text"))
+                .change(source, target);
+
+        // then
+        assertThat(target.text).isEqualTo("text++");
+    }
+
+    private static class WithText {
+        private String text = "text";
+    }
+
+    private static class StringChanger extends AbstractFieldValueChanger<String> {
+        private final String suffix;
+
+        private StringChanger(final String suffix) {
+            this.suffix = suffix;
+        }
+
+        @Override
+        protected boolean canChange(final Class<?> type) {
+            return type.equals(String.class);
+        }
+
+        @Override
+        protected String increaseValue(final String value, final Class<?> type) {
+            return value + suffix;
+        }
+    }
+
+    private static class IntegerChanger extends AbstractFieldValueChanger<Integer> {
+        @Override
+        protected boolean canChange(final Class<?> type) {
+            return type.equals(Integer.class);
+        }
+
+        @Override
+        protected Integer increaseValue(final Integer value, final Class<?> type) {
+            return value + 1;
+        }
+    }
+}
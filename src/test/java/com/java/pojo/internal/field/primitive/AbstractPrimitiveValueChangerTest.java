@@ -26,6 +26,28 @@ class AbstractPrimitiveValueChangerTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void Should_Change_Primitive_Field_Through_Boxed_Path_When_Changer_Is_Not_Specialized() throws Exception {
+        // given
+        final B source = new B();
+        final B target = new B();
+        final AbstractPrimitiveValueChanger<Integer> changer = new IntegerImplementationForTest();
+
+        // when
+        changer.changeFieldsValues(source, target, List.of(B.class.getDeclaredField("number")));
+
+        // then
+        assertThat(target.number).isEqualTo(10);
+    }
+
+    private class IntegerImplementationForTest extends AbstractPrimitiveValueChanger<Integer> {
+
+        @Override
+        protected Integer increase(final Integer value) {
+            return value + 10;
+        }
+    }
+
     private class ImplementationForTest extends AbstractPrimitiveValueChanger<Object> {
 
         @Override
@@ -38,4 +60,8 @@ class AbstractPrimitiveValueChangerTest {
     private class A {
     	private List<Integer> temp;
     }
+
+    private static class B {
+        private int number;
+    }
 }
@@ -70,7 +70,7 @@ class AbstractMultiConstructorInstantiatorTest {
     static class MockMultiConstructorInstantiator extends AbstractMultiConstructorInstantiator {
         MockMultiConstructorInstantiator(final Class<?> clazz,
                                          final MultiValuedMap<Class<?>, ConstructorParameters> constructorParameters) {
-            super(clazz, constructorParameters);
+            super(clazz, constructorParameters, new InstantiationContext());
         }
 
         @Override
@@ -40,7 +40,8 @@ class ArrayInstantiatorTest {
         return () -> {
             // given
             final ArrayInstantiator instantiator = new ArrayInstantiator(classToInstantiate,
-                                                                         new ArrayListValuedHashMap<>());
+                                                                         new ArrayListValuedHashMap<>(),
+                                                                         new InstantiationContext());
 
             // when
             final Object result = instantiator.instantiate();
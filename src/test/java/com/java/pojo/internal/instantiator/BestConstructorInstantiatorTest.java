@@ -63,7 +63,8 @@ class BestConstructorInstantiatorTest {
             // given
             final Class<?> classUnderTest = Class.forName(className);
             final BestConstructorInstantiator instantiator = new BestConstructorInstantiator(classUnderTest,
-                                                                                             constructorParameters);
+                                                                                             constructorParameters,
+                                                                                             new InstantiationContext());
 
             // when
             final Object result = instantiator.instantiate();
@@ -114,7 +115,8 @@ class BestConstructorInstantiatorTest {
         return () -> {
             // given
             final BestConstructorInstantiator instantiator = new BestConstructorInstantiator(classToInstantiate,
-                                                                                             constructorParameters);
+                                                                                             constructorParameters,
+                                                                                             new InstantiationContext());
 
             // when
             final Object result = instantiator.instantiate();
@@ -136,7 +138,8 @@ class BestConstructorInstantiatorTest {
         return () -> {
             // given
             final BestConstructorInstantiator instantiator = new BestConstructorInstantiator(classToInstantiate,
-                                                                                             constructorParameters);
+                                                                                             constructorParameters,
+                                                                                             new InstantiationContext());
 
             // when
             final Throwable result = catchThrowable(instantiator::instantiate);
@@ -151,7 +154,8 @@ class BestConstructorInstantiatorTest {
         // given
         final Class<?> classToInstantiate = PrivateConstructor.class;
         final BestConstructorInstantiator instantiator = new BestConstructorInstantiator(classToInstantiate,
-                                                                                         constructorParameters);
+                                                                                         constructorParameters,
+                                                                                         new InstantiationContext());
 
         // when
         final Object result = instantiator.instantiate();
@@ -165,7 +169,8 @@ class BestConstructorInstantiatorTest {
         // given
         final Class<?> classToInstantiate = Constructors_First_Throws_Exception.class;
         final BestConstructorInstantiator instantiator = new BestConstructorInstantiator(classToInstantiate,
-                                                                                         constructorParameters);
+                                                                                         constructorParameters,
+                                                                                         new InstantiationContext());
 
         // when
         final Object result = instantiator.instantiate();
@@ -182,7 +187,8 @@ class BestConstructorInstantiatorTest {
                                                                            new Class[]{Object.class});
         constructorParameters.put(NoDefaultConstructor.class, parameters);
         final BestConstructorInstantiator instantiator = new BestConstructorInstantiator(NoDefaultConstructor.class,
-                                                                                         constructorParameters);
+                                                                                         constructorParameters,
+                                                                                         new InstantiationContext());
 
         final NoDefaultConstructor expectedResult = new NoDefaultConstructor("expectedString");
 
@@ -72,7 +72,8 @@ class CollectionInstantiatorTest {
         return () -> {
             // given
             final CollectionInstantiator instantiator = new CollectionInstantiator(classToInstantiate,
-                                                                                   new ArrayListValuedHashMap<>());
+                                                                                   new ArrayListValuedHashMap<>(),
+                                                                                   new InstantiationContext());
 
             // when
             final Object result = instantiator.instantiate();
@@ -86,7 +87,8 @@ class CollectionInstantiatorTest {
     void Should_Throws_Exception_When_Prepared_Objects_Do_Not_Contain_Expected_Class() {
         // given
         final CollectionInstantiator instantiator = new CollectionInstantiator(String.class,
-                                                                               new ArrayListValuedHashMap<>());
+                                                                               new ArrayListValuedHashMap<>(),
+                                                                               new InstantiationContext());
 
         // when
         final Throwable result = catchThrowable(instantiator::instantiate);
@@ -15,7 +15,8 @@ class DefaultConstructorInstantiatorTest {
         // given
         final Class<String> classToInstantiate = String.class;
         final DefaultConstructorInstantiator instantiator = new DefaultConstructorInstantiator(classToInstantiate,
-                                                                                               new ArrayListValuedHashMap<>());
+                                                                                               new ArrayListValuedHashMap<>(),
+                                                                                               new InstantiationContext());
 
         // when
         final Object result = instantiator.instantiate();
@@ -29,7 +30,8 @@ class DefaultConstructorInstantiatorTest {
         // given
         final Class<?> classToInstantiate = No_Args_Constructor_Throws_IllegalAccessException.class;
         final DefaultConstructorInstantiator instantiator = new DefaultConstructorInstantiator(classToInstantiate,
-                                                                                               new ArrayListValuedHashMap<>());
+                                                                                               new ArrayListValuedHashMap<>(),
+                                                                                               new InstantiationContext());
 
         // when
         final Throwable result = catchThrowable(instantiator::instantiate);
@@ -14,7 +14,9 @@ public class EnumInstantiatorTest {
     @Test
     void Should_Return_Null_When_Enum_Is_Empty() {
         // given
-        final EnumInstantiator instantiator = new EnumInstantiator(EmptyEnum.class, new ArrayListValuedHashMap<>());
+        final EnumInstantiator instantiator = new EnumInstantiator(EmptyEnum.class,
+                                                                   new ArrayListValuedHashMap<>(),
+                                                                   new InstantiationContext());
 
         // when
         final Object result = instantiator.instantiate();
@@ -27,7 +29,9 @@ public class EnumInstantiatorTest {
     void Should_Return_Any_Enum_Value() {
         // given
         final Class<?> doubleEnumClass = DoubleEnum.class;
-        final EnumInstantiator instantiator = new EnumInstantiator(doubleEnumClass, new ArrayListValuedHashMap<>());
+        final EnumInstantiator instantiator = new EnumInstantiator(doubleEnumClass,
+                                                                   new ArrayListValuedHashMap<>(),
+                                                                   new InstantiationContext());
 
         // when
         final Object result = instantiator.instantiate();
@@ -40,7 +44,9 @@ public class EnumInstantiatorTest {
     void Should_Return_One_Enum_Value() {
         // given
         final Class<?> oneEnumClass = OneEnum.class;
-        final EnumInstantiator instantiator = new EnumInstantiator(oneEnumClass, new ArrayListValuedHashMap<>());
+        final EnumInstantiator instantiator = new EnumInstantiator(oneEnumClass,
+                                                                   new ArrayListValuedHashMap<>(),
+                                                                   new InstantiationContext());
 
         // when
         final Object result = instantiator.instantiate();
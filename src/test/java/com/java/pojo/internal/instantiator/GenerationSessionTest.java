@@ -0,0 +1,165 @@
+package com.java.pojo.internal.instantiator;
+
+import com.java.pojo.api.ClassAndFieldPredicatePair;
+import com.java.pojo.api.FieldPredicate;
+import com.java.pojo.internal.utils.ThoroughFieldPermutator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationSessionTest {
+
+    private static final ClassAndFieldPredicatePair[] NO_NESTED_CLASSES = {};
+
+    @Test
+    void Should_Generate_Objects_Once_For_Same_Key() {
+        // given
+        final GenerationSession generationSession = new GenerationSession();
+        final ThoroughFieldPermutator permutator = new ThoroughFieldPermutator();
+        final AtomicInteger generations = new AtomicInteger();
+        final Object expectedObject = new Object();
+        consume(generationSession.differentObjects(keyOf(Pojo.class, "a", permutator),
+                                                   () -> generate(generations, expectedObject)));
+
+        // when
+        final List<Object> result = consume(generationSession.differentObjects(keyOf(Pojo.class, "a", permutator),
+                                                                               () -> generate(generations,
+                                                                                              new Object())));
+
+        // then
+        assertThat(result).containsExactly(expectedObject);
+        assertThat(generations).hasValue(1);
+    }
+
+    @Test
+    void Should_Generate_Objects_Again_For_Different_Fields_Or_Settings() {
+        // given
+        final GenerationSession generationSession = new GenerationSession();
+        final ThoroughFieldPermutator permutator = new ThoroughFieldPermutator();
+
+        // when
+        consume(generationSession.differentObjects(keyOf(Pojo.class, "a", permutator), Stream::empty));
+        consume(generationSession.differentObjects(keyOf(Pojo.class, "b", permutator), Stream::empty));
+        consume(generationSession.differentObjects(keyOf(Pojo.class, "a", new ThoroughFieldPermutator()),
+                                                   Stream::empty));
+
+        // then
+        assertThat(generationSession.size()).isEqualTo(3);
+    }
+
+    @Test
+    void Should_Not_Keep_Objects_Not_Iterated_Till_End() {
+        // given
+        final GenerationSession generationSession = new GenerationSession();
+        final Iterator<Object> objects = generationSession.differentObjects(keyOf(Pojo.class,
+                                                                                  "a",
+                                                                                  new ThoroughFieldPermutator()),
+                                                                            () -> Stream.of(new Object(), new Object()));
+
+        // when
+        objects.next();
+
+        // then
+        assertThat(generationSession.size()).isZero();
+        assertThat(generationSession.getHeldObjects()).isZero();
+    }
+
+    @Test
+    void Should_Generate_Objects_Again_When_They_Exceed_Limit() {
+        // given
+        final GenerationSession generationSession = new GenerationSession(3);
+        final ThoroughFieldPermutator permutator = new ThoroughFieldPermutator();
+        final AtomicInteger generations = new AtomicInteger();
+        consume(generationSession.differentObjects(keyOf(Pojo.class, "a", permutator),
+                                                   () -> generate(generations, 1, 2)));
+        consume(generationSession.differentObjects(keyOf(Pojo.class, "b", permutator),
+                                                   () -> generate(generations, 1, 2)));
+
+        // when
+        final List<Object> result = consume(generationSession.differentObjects(keyOf(Pojo.class, "b", permutator),
+                                                                               () -> generate(generations, 1, 2)));
+
+        // then
+        assertThat(result).containsExactly(1, 2);
+        assertThat(generations).hasValue(3);
+        assertThat(generationSession.getHeldObjects()).isEqualTo(2);
+    }
+
+    @Test
+    void Should_Count_Nested_Objects_Against_Limit() {
+        // given
+        final GenerationSession generationSession = new GenerationSession(3);
+        consume(generationSession.differentObjects(keyOf(Pojo.class, "a", new ThoroughFieldPermutator()),
+                                                   () -> Stream.of(1, 2)));
+
+        // when
+        final boolean tooManyHeld = generationSession.hold(2);
+        final boolean fittingHeld = generationSession.hold(1);
+
+        // then
+        assertThat(tooManyHeld).isFalse();
+        assertThat(fittingHeld).isTrue();
+        assertThat(generationSession.getHeldObjects()).isEqualTo(3);
+    }
+
+    @Test
+    void Should_Equal_Key_With_Negated_Field_Predicate() {
+        // given
+        final ClassAndFieldPredicatePair pair = new ClassAndFieldPredicatePair(Pojo.class,
+                                                                               FieldPredicate.include("a")
+                                                                                             .negate());
+        final GenerationSession.Key key = new GenerationSession.Key(pair, NO_NESTED_CLASSES);
+
+        // when
+        final GenerationSession.Key result = new GenerationSession.Key(new ClassAndFieldPredicatePair(Pojo.class,
+                                                                                                      FieldPredicate.exclude(
+                                                                                                              "a")),
+                                                                       NO_NESTED_CLASSES);
+
+        // then
+        assertThat(result).isEqualTo(key)
+                          .hasSameHashCodeAs(key);
+    }
+
+    @Test
+    void Should_Release_Objects_When_Closed() {
+        // given
+        final GenerationSession generationSession = new GenerationSession();
+        consume(generationSession.differentObjects(keyOf(Pojo.class, "a", new ThoroughFieldPermutator()),
+                                                   () -> Stream.of(new Object())));
+
+        // when
+        generationSession.close();
+
+        // then
+        assertThat(generationSession.size()).isZero();
+        assertThat(generationSession.getHeldObjects()).isZero();
+    }
+
+    private static Stream<Object> generate(final AtomicInteger generations, final Object... objects) {
+        generations.incrementAndGet();
+        return Stream.of(objects);
+    }
+
+    private static List<Object> consume(final Iterator<Object> objects) {
+        final List<Object> result = new ArrayList<>();
+        objects.forEachRemaining(result::add);
+        return result;
+    }
+
+    private static GenerationSession.Key keyOf(final Class<?> clazz, final String field, final Object permutator) {
+        final ClassAndFieldPredicatePair pair = new ClassAndFieldPredicatePair(clazz, FieldPredicate.include(field));
+        return new GenerationSession.Key(pair, NO_NESTED_CLASSES, permutator);
+    }
+
+    private static class Pojo {
+        private int a;
+        private int b;
+    }
+}
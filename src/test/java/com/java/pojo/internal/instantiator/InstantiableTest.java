@@ -147,7 +147,9 @@ class InstantiableTest {
     private Executable Should_Return_Expected_Instantiator_For_Class(final ClassInstantiator testCase) {
         return () -> {
             // when
-            final Object result = Instantiable.forClass(testCase.clazz, CLASS_AND_CONSTRUCTOR_PARAMETERS);
+            final Object result = Instantiable.forClass(testCase.clazz,
+                                                        CLASS_AND_CONSTRUCTOR_PARAMETERS,
+                                                        new InstantiationContext());
 
             // then
             assertThat(result).isInstanceOf(testCase.instantiator);
@@ -160,7 +162,9 @@ class InstantiableTest {
         final Class[] classesToInstantiate = { A.class, B.class };
 
         // when
-        final Object[] result = Instantiable.instantiateClasses(classesToInstantiate, new ArrayListValuedHashMap<>());
+        final Object[] result = Instantiable.instantiateClasses(classesToInstantiate,
+                                                                new ArrayListValuedHashMap<>(),
+                                                                new InstantiationContext());
 
         // then
         assertThat(result).extracting(Object::getClass)
@@ -175,12 +179,38 @@ class InstantiableTest {
         constructorParameters.put(clazz, new ConstructorParameters(new Object[0], new Class[0]));
 
         // when
-        final AbstractObjectInstantiator result = Instantiable.forClass(clazz, constructorParameters);
+        final AbstractObjectInstantiator result = Instantiable.forClass(clazz,
+                                                                        constructorParameters,
+                                                                        new InstantiationContext());
 
         // then
         assertThat(result).isInstanceOf(UserDefinedConstructorInstantiator.class);
     }
 
+    @Test
+    void Should_Select_Instantiator_Separately_With_And_Without_User_Defined_Constructor_Parameters() {
+        // given
+        final ArrayListValuedHashMap<Class<?>, ConstructorParameters> constructorParameters = new ArrayListValuedHashMap<>();
+        final Class<?> clazz = B.class;
+        constructorParameters.put(clazz, new ConstructorParameters(new Object[0], new Class[0]));
+
+        // when
+        final AbstractObjectInstantiator withoutParameters = Instantiable.forClass(clazz,
+                                                                                   new ArrayListValuedHashMap<>(),
+                                                                                   new InstantiationContext());
+        final AbstractObjectInstantiator withParameters = Instantiable.forClass(clazz,
+                                                                                constructorParameters,
+                                                                                new InstantiationContext());
+        final AbstractObjectInstantiator withoutParametersAgain = Instantiable.forClass(clazz,
+                                                                                        new ArrayListValuedHashMap<>(),
+                                                                                        new InstantiationContext());
+
+        // then
+        assertThat(withoutParameters).isInstanceOf(BestConstructorInstantiator.class);
+        assertThat(withParameters).isInstanceOf(UserDefinedConstructorInstantiator.class);
+        assertThat(withoutParametersAgain).isInstanceOf(BestConstructorInstantiator.class);
+    }
+
     @Test
     void Should_Return_Proxy_Instantiator_If_Class_Qualifies_For_Proxy_And_User_Defined_Constructor_Parameters() {
         // given
@@ -189,7 +219,9 @@ class InstantiableTest {
         constructorParameters.put(clazz, new ConstructorParameters(new Object[0], new Class[0]));
 
         // when
-        final AbstractObjectInstantiator result = Instantiable.forClass(clazz, constructorParameters);
+        final AbstractObjectInstantiator result = Instantiable.forClass(clazz,
+                                                                        constructorParameters,
+                                                                        new InstantiationContext());
 
         // then
         assertThat(result).isInstanceOf(ProxyInstantiator.class);
@@ -0,0 +1,55 @@
+package com.java.pojo.internal.instantiator;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class InstantiationContextTest {
+
+    @Test
+    void Should_Create_Same_Distinct_Identifiers_For_Same_Seed() {
+        // given
+        final InstantiationContext context1 = new InstantiationContext(Prototypes.DEFAULT_CLOCK, 7L);
+        final InstantiationContext context2 = new InstantiationContext(Prototypes.DEFAULT_CLOCK, 7L);
+
+        // when
+        final Object first1 = context1.instantiateJavaType(UUID.class);
+        final Object second1 = context1.instantiateJavaType(UUID.class);
+        final Object first2 = context2.instantiateJavaType(UUID.class);
+
+        // then
+        assertThat(first1).isNotEqualTo(second1)
+                          .isEqualTo(first2);
+    }
+
+    @Test
+    void Should_Not_Share_Identifier_Sequence_Between_Contexts() {
+        // given
+        final InstantiationContext usedContext = new InstantiationContext();
+        usedContext.instantiateJavaType(UUID.class);
+        usedContext.instantiateJavaType(UUID.class);
+
+        // when
+        final Object result = new InstantiationContext().instantiateJavaType(UUID.class);
+
+        // then
+        assertThat(result).isEqualTo(new UUID(InstantiationContext.DEFAULT_SEED, InstantiationContext.DEFAULT_SEED));
+    }
+
+    @Test
+    void Should_Instantiate_Java_Types_From_Prototypes() {
+        // given
+        final InstantiationContext context = new InstantiationContext();
+
+        // when
+        final Object result = context.instantiateJavaType(LocalDate.class);
+
+        // then
+        assertThat(context.canInstantiateJavaType(UUID.class)).isTrue();
+        assertThat(result).isEqualTo(LocalDate.of(2017, 6, 15));
+    }
+}
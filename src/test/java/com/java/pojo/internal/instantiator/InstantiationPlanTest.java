@@ -0,0 +1,85 @@
+package com.java.pojo.internal.instantiator;
+
+import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class InstantiationPlanTest {
+
+    @Test
+    void Should_Record_Constructor_That_Created_Instance() throws NoSuchMethodException {
+        // given
+        final InstantiationContext instantiationContext = new InstantiationContext();
+        final BestConstructorInstantiator instantiator = new BestConstructorInstantiator(OneWorkingConstructor.class,
+                                                                                         new ArrayListValuedHashMap<>(),
+                                                                                         instantiationContext);
+
+        // when
+        final Object result = instantiator.instantiate();
+
+        // then
+        assertThat(result).isInstanceOf(OneWorkingConstructor.class);
+        assertThat(instantiationContext.recordedPlanFor(OneWorkingConstructor.class)
+                                       .getConstructor()).isEqualTo(OneWorkingConstructor.class.getDeclaredConstructor(
+                String.class));
+    }
+
+    @Test
+    void Should_Replay_Recorded_Constructor() {
+        // given
+        final InstantiationContext instantiationContext = new InstantiationContext();
+        final BestConstructorInstantiator instantiator = new BestConstructorInstantiator(OneWorkingConstructor.class,
+                                                                                         new ArrayListValuedHashMap<>(),
+                                                                                         instantiationContext);
+        instantiator.instantiate();
+        final InstantiationPlan plan = instantiationContext.recordedPlanFor(OneWorkingConstructor.class);
+
+        // when
+        final Object result = instantiator.instantiate();
+
+        // then
+        assertThat(result).isInstanceOf(OneWorkingConstructor.class);
+        assertThat(instantiationContext.recordedPlanFor(OneWorkingConstructor.class)).isSameAs(plan);
+    }
+
+    @Test
+    void Should_Forget_Failed_Plan() throws NoSuchMethodException {
+        // given
+        final InstantiationContext instantiationContext = new InstantiationContext();
+        instantiationContext.recordPlan(ForgottenPlan.class, ForgottenPlan.class.getDeclaredConstructor());
+        final InstantiationPlan plan = instantiationContext.recordedPlanFor(ForgottenPlan.class);
+
+        // when
+        instantiationContext.forgetPlan(ForgottenPlan.class, plan);
+
+        // then
+        assertThat(instantiationContext.recordedPlanFor(ForgottenPlan.class)).isNull();
+    }
+
+    @Test
+    void Should_Not_Share_Plans_Between_Contexts() throws NoSuchMethodException {
+        // given
+        final InstantiationContext instantiationContext = new InstantiationContext();
+        instantiationContext.recordPlan(ForgottenPlan.class, ForgottenPlan.class.getDeclaredConstructor());
+
+        // when
+        final InstantiationPlan result = new InstantiationContext().recordedPlanFor(ForgottenPlan.class);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    private static class OneWorkingConstructor {
+        private OneWorkingConstructor() {
+            throw new IllegalStateException();
+        }
+
+        private OneWorkingConstructor(final String text) {
+        }
+    }
+
+    private static class ForgottenPlan {
+    }
+}
@@ -2,6 +2,7 @@ package com.java.pojo.internal.instantiator;
 
 import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
 import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.function.Executable;
 
@@ -58,7 +59,8 @@ class JavaTypeInstantiatorTest {
         return () -> {
             // given
             final JavaTypeInstantiator instantiator = new JavaTypeInstantiator(classToInstantiate,
-                                                                               new ArrayListValuedHashMap<>());
+                                                                               new ArrayListValuedHashMap<>(),
+                                                                               new InstantiationContext());
 
             // when
             final Object result = instantiator.instantiate();
@@ -108,7 +110,8 @@ class JavaTypeInstantiatorTest {
         return () -> {
             // given
             final JavaTypeInstantiator instantiator = new JavaTypeInstantiator(classToInstantiate,
-                                                                               new ArrayListValuedHashMap<>());
+                                                                               new ArrayListValuedHashMap<>(),
+                                                                               new InstantiationContext());
 
             // when
             final Object result = instantiator.instantiate();
@@ -118,4 +121,20 @@ class JavaTypeInstantiatorTest {
                               .isNotNull();
         };
     }
+
+    @Test
+    void Should_Create_New_Instance_Of_Mutable_Date() {
+        // given
+        final JavaTypeInstantiator instantiator = new JavaTypeInstantiator(Date.class,
+                                                                           new ArrayListValuedHashMap<>(),
+                                                                           new InstantiationContext());
+
+        // when
+        final Object result1 = instantiator.instantiate();
+        final Object result2 = instantiator.instantiate();
+
+        // then
+        assertThat(result1).isEqualTo(result2)
+                           .isNotSameAs(result2);
+    }
 }
@@ -0,0 +1,151 @@
+package com.java.pojo.internal.instantiator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class NestedObjectsCombinationTest {
+
+    @Test
+    void Should_Combine_Every_Variant_With_Every_Other_Variant() {
+        // given
+        final NestedObjectsCombination combination = NestedObjectsCombination.cartesian();
+
+        // when
+        final List<int[]> result = combination.combine(new int[]{ 2, 3 })
+                                              .collect(Collectors.toList());
+
+        // then
+        assertThat(result).containsExactly(new int[]{ 0, 0 },
+                                           new int[]{ 0, 1 },
+                                           new int[]{ 0, 2 },
+                                           new int[]{ 1, 0 },
+                                           new int[]{ 1, 1 },
+                                           new int[]{ 1, 2 });
+    }
+
+    @Test
+    void Should_Combine_Every_Variant_Once() {
+        // given
+        final NestedObjectsCombination combination = NestedObjectsCombination.eachVariantOnce();
+
+        // when
+        final List<int[]> result = combination.combine(new int[]{ 2, 4, 1 })
+                                              .collect(Collectors.toList());
+
+        // then
+        assertThat(result).containsExactly(new int[]{ 0, 0, 0 },
+                                           new int[]{ 1, 1, 0 },
+                                           new int[]{ 0, 2, 0 },
+                                           new int[]{ 1, 3, 0 });
+    }
+
+    @Test
+    void Should_Combine_Every_Pair_Of_Variants() {
+        // given
+        final NestedObjectsCombination combination = NestedObjectsCombination.pairwise();
+        final int[] variantCounts = { 3, 3, 3, 3 };
+
+        // when
+        final List<int[]> result = combination.combine(variantCounts)
+                                              .collect(Collectors.toList());
+
+        // then
+        assertThat(result).hasSizeLessThan(81);
+        for (int first = 0; first < variantCounts.length; first++) {
+            for (int second = first + 1; second < variantCounts.length; second++) {
+                for (int firstVariant = 0; firstVariant < 3; firstVariant++) {
+                    for (int secondVariant = 0; secondVariant < 3; secondVariant++) {
+                        final int i = first;
+                        final int j = second;
+                        final int iVariant = firstVariant;
+                        final int jVariant = secondVariant;
+                        assertThat(result).anyMatch(row -> row[i] == iVariant && row[j] == jVariant);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void Should_Produce_Single_Empty_Combination_When_There_Are_No_Fields() {
+        // given
+        final int[] variantCounts = {};
+
+        // when
+        final long cartesian = NestedObjectsCombination.cartesian()
+                                                       .combine(variantCounts)
+                                                       .count();
+        final long eachVariantOnce = NestedObjectsCombination.eachVariantOnce()
+                                                             .combine(variantCounts)
+                                                             .count();
+        final long pairwise = NestedObjectsCombination.pairwise()
+                                                      .combine(variantCounts)
+                                                      .count();
+
+        // then
+        assertThat(cartesian).isEqualTo(1);
+        assertThat(eachVariantOnce).isEqualTo(1);
+        assertThat(pairwise).isEqualTo(1);
+    }
+
+    @Test
+    void Should_Limit_Number_Of_Combinations() {
+        // given
+        final NestedObjectsCombination combination = NestedObjectsCombination.cartesian()
+                                                                              .limitedTo(5);
+
+        // when
+        final long result = combination.combine(new int[]{ 10, 10, 10 })
+                                       .count();
+
+        // then
+        assertThat(result).isEqualTo(5);
+    }
+
+    @Test
+    void Should_Not_Create_Every_Combination_When_Limited() {
+        // given
+        final NestedObjectsCombination combination = NestedObjectsCombination.cartesian()
+                                                                              .limitedTo(3);
+        final int[] variantCounts = { Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE };
+
+        // when
+        final List<int[]> result = combination.combine(variantCounts)
+                                              .collect(Collectors.toList());
+
+        // then
+        assertThat(result).containsExactly(new int[]{ 0, 0, 0 }, new int[]{ 0, 0, 1 }, new int[]{ 0, 0, 2 });
+    }
+
+    @Test
+    void Should_Throw_Exception_When_Limit_Is_Lower_Than_One() {
+        // when
+        final Throwable result = catchThrowable(() -> NestedObjectsCombination.pairwise()
+                                                                              .limitedTo(0));
+
+        // then
+        assertThat(result).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void Should_Equal_Other_Strategy_With_Same_Limit() {
+        // given
+        final NestedObjectsCombination combination = NestedObjectsCombination.eachVariantOnce()
+                                                                              .limitedTo(7);
+
+        // when
+        final NestedObjectsCombination result = NestedObjectsCombination.eachVariantOnce()
+                                                                         .limitedTo(7);
+
+        // then
+        assertThat(result).isEqualTo(combination)
+                          .hasSameHashCodeAs(combination)
+                          .isNotEqualTo(NestedObjectsCombination.cartesian()
+                                                                .limitedTo(7));
+    }
+}
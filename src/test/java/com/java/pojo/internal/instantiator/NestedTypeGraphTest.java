@@ -0,0 +1,206 @@
+package com.java.pojo.internal.instantiator;
+
+import com.java.pojo.api.ClassAndFieldPredicatePair;
+import com.java.pojo.api.FieldPredicate;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class NestedTypeGraphTest {
+
+    @Test
+    void Should_Make_Class_Depend_On_Classes_Of_Its_Fields() {
+        // given
+        final ClassAndFieldPredicatePair[] classes = { pair(Outer.class), pair(Middle.class), pair(Inner.class) };
+
+        // when
+        final NestedTypeGraph result = NestedTypeGraph.of(pair(Outer.class), classes);
+
+        // then
+        assertThat(result.isNested(Outer.class, Middle.class)).isTrue();
+        assertThat(result.isNested(Middle.class, Inner.class)).isTrue();
+        assertThat(result.isNested(Outer.class, Inner.class)).isFalse();
+        assertThat(result.isNested(Inner.class, Middle.class)).isFalse();
+    }
+
+    @Test
+    void Should_Not_Make_Class_Depend_On_Classes_Of_Fields_Not_To_Change() {
+        // given
+        final ClassAndFieldPredicatePair[] classes = { pair(Middle.class), pair(Inner.class) };
+        final ClassAndFieldPredicatePair base = new ClassAndFieldPredicatePair(Outer.class,
+                                                                               FieldPredicate.exclude("middle"));
+
+        // when
+        final NestedTypeGraph result = NestedTypeGraph.of(base, classes);
+
+        // then
+        assertThat(result.isNested(Outer.class, Middle.class)).isFalse();
+        assertThat(result.getFieldsToChange(Outer.class)).extracting("name")
+                                                         .containsExactly("number");
+    }
+
+    @Test
+    void Should_Not_Make_Class_Depend_On_Itself() {
+        // given
+        final ClassAndFieldPredicatePair[] classes = { pair(SelfReferencing.class) };
+
+        // when
+        final NestedTypeGraph result = NestedTypeGraph.of(pair(SelfReferencing.class), classes);
+
+        // then
+        assertThat(result.isNested(SelfReferencing.class, SelfReferencing.class)).isFalse();
+        assertThat(result.hasNestedFieldsToChange(SelfReferencing.class)).isTrue();
+    }
+
+    @Test
+    void Should_Drop_Dependency_Closing_Cycle_But_Not_Dependency_Of_Base_Class() {
+        // given
+        final ClassAndFieldPredicatePair[] classes = { pair(First.class), pair(Second.class) };
+
+        // when
+        final NestedTypeGraph result = NestedTypeGraph.of(pair(Second.class), classes);
+
+        // then
+        assertThat(result.isNested(Second.class, First.class)).isTrue();
+        assertThat(result.isNested(First.class, Second.class)).isFalse();
+    }
+
+    @Test
+    void Should_Find_Dependencies_From_Other_Base_Class_When_Classes_Form_Cycle() {
+        // given
+        final ClassAndFieldPredicatePair[] classes = { pair(First.class), pair(Second.class) };
+        final NestedTypeGraph nestedTypeGraph = NestedTypeGraph.of(pair(Second.class), classes);
+
+        // when
+        final NestedTypeGraph result = nestedTypeGraph.rootedAt(First.class);
+
+        // then
+        assertThat(result).isNotSameAs(nestedTypeGraph);
+        assertThat(result.isNested(First.class, Second.class)).isTrue();
+        assertThat(result.isNested(Second.class, First.class)).isFalse();
+    }
+
+    @Test
+    void Should_Serve_Every_Base_Class_When_Classes_Do_Not_Form_Cycle() {
+        // given
+        final ClassAndFieldPredicatePair[] classes = { pair(Outer.class), pair(Middle.class), pair(Inner.class) };
+        final NestedTypeGraph nestedTypeGraph = NestedTypeGraph.of(pair(Outer.class), classes);
+
+        // when
+        final NestedTypeGraph result = nestedTypeGraph.rootedAt(Inner.class);
+
+        // then
+        assertThat(result).isSameAs(nestedTypeGraph);
+    }
+
+    @Test
+    void Should_Generate_Nested_Objects_Once() {
+        // given
+        final NestedTypeGraph nestedTypeGraph = NestedTypeGraph.of(pair(Outer.class), new ClassAndFieldPredicatePair[0]);
+        final AtomicInteger generations = new AtomicInteger();
+        final List<Object> expectedResult = new ArrayList<>();
+        nestedTypeGraph.nestedObjectsOf(Inner.class, clazz -> {
+            generations.incrementAndGet();
+            return expectedResult;
+        });
+
+        // when
+        final List<Object> result = nestedTypeGraph.nestedObjectsOf(Inner.class, clazz -> {
+            generations.incrementAndGet();
+            return new ArrayList<>();
+        });
+
+        // then
+        assertThat(result).isSameAs(expectedResult);
+        assertThat(generations).hasValue(1);
+    }
+
+    @Test
+    void Should_Share_Nested_Objects_Fitting_In_Budget_Between_Generations() {
+        // given
+        final NestedTypeGraph nestedTypeGraph = NestedTypeGraph.of(pair(Outer.class),
+                                                                   new ClassAndFieldPredicatePair[0],
+                                                                   objects -> true);
+        final AtomicInteger generations = new AtomicInteger();
+        nestedTypeGraph.forGeneration()
+                       .nestedObjectsOf(Inner.class, clazz -> generate(generations));
+
+        // when
+        nestedTypeGraph.forGeneration()
+                       .nestedObjectsOf(Inner.class, clazz -> generate(generations));
+
+        // then
+        assertThat(generations).hasValue(1);
+    }
+
+    @Test
+    void Should_Keep_Nested_Objects_Exceeding_Budget_Only_For_One_Generation() {
+        // given
+        final NestedTypeGraph nestedTypeGraph = NestedTypeGraph.of(pair(Outer.class),
+                                                                   new ClassAndFieldPredicatePair[0],
+                                                                   objects -> false);
+        final AtomicInteger generations = new AtomicInteger();
+        final NestedTypeGraph generation = nestedTypeGraph.forGeneration();
+        generation.nestedObjectsOf(Inner.class, clazz -> generate(generations));
+        generation.nestedObjectsOf(Inner.class, clazz -> generate(generations));
+
+        // when
+        nestedTypeGraph.forGeneration()
+                       .nestedObjectsOf(Inner.class, clazz -> generate(generations));
+
+        // then
+        assertThat(generations).hasValue(2);
+        assertThat(nestedTypeGraph.hasNestedObjectsOf(Inner.class)).isFalse();
+    }
+
+    @Test
+    void Should_Throw_Exception_When_Class_Is_Given_Twice() {
+        // given
+        final ClassAndFieldPredicatePair[] classes = { pair(Inner.class), pair(Inner.class) };
+
+        // when
+        final Throwable result = catchThrowable(() -> NestedTypeGraph.of(pair(Outer.class), classes));
+
+        // then
+        assertThat(result).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<Object> generate(final AtomicInteger generations) {
+        generations.incrementAndGet();
+        return new ArrayList<>();
+    }
+
+    private static ClassAndFieldPredicatePair pair(final Class<?> clazz) {
+        return new ClassAndFieldPredicatePair(clazz);
+    }
+
+    private static class Outer {
+        private int number;
+        private Middle middle;
+    }
+
+    private static class Middle {
+        private Inner inner;
+    }
+
+    private static class Inner {
+        private int number;
+    }
+
+    private static class SelfReferencing {
+        private SelfReferencing next;
+    }
+
+    private static class First {
+        private Second second;
+    }
+
+    private static class Second {
+        private First first;
+    }
+}
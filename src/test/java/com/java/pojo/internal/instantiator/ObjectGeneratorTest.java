@@ -4,9 +4,19 @@ import static helpers.TestHelper.getDefaultDisplayName;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 
+import java.lang.reflect.Field;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.collections4.MultiValuedMap;
@@ -23,6 +33,9 @@ import com.java.pojo.api.ClassAndFieldPredicatePair;
 import com.java.pojo.api.ConstructorParameters;
 import com.java.pojo.internal.field.AbstractFieldValueChanger;
 import com.java.pojo.internal.field.DefaultFieldValueChanger;
+import com.java.pojo.internal.utils.FieldUtils;
+import com.java.pojo.internal.utils.GrayCodeFieldPermutator;
+import com.java.pojo.internal.utils.Permutator;
 import com.java.pojo.internal.utils.ThoroughFieldPermutator;
 
 import artefact.classes.ClassContainingPrivateEnum;
@@ -30,6 +43,7 @@ import artefact.classes.ObjectContainingArray;
 import artefact.classes.ObjectContainingIterable;
 import artefact.classes.ObjectContainingIterator;
 import artefact.classes.ObjectContainingStream;
+import artefact.classes.PrivateConstructor;
 import artefact.classes.fields.TestEnum1;
 import artefact.classes.fields.collections.collection.Collections;
 import artefact.classes.fields.collections.map.Maps;
@@ -82,6 +96,177 @@ class ObjectGeneratorTest {
                           .doesNotHaveDuplicates();
     }
 
+    @Test
+    void Should_Stream_As_Many_Different_Objects_As_Generated() {
+        // given
+        final ObjectGenerator objectGenerator = makeObjectGenerator(abstractFieldValueChanger, constructorParameters);
+        final ClassAndFieldPredicatePair classAndFieldPredicatePair = new ClassAndFieldPredicatePair(
+                ClassContainingPrivateEnum.class);
+        final int expectedSize = objectGenerator.generateDifferentObjects(classAndFieldPredicatePair)
+                                                .size();
+
+        // when
+        final List<Object> result = objectGenerator.streamDifferentObjects(classAndFieldPredicatePair)
+                                                   .collect(Collectors.toList());
+
+        // then
+        assertThat(result).hasSize(expectedSize)
+                          .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void Should_Stream_Different_Objects_On_Demand() {
+        // given
+        final Permutator endlessPermutator = new Permutator() {
+            @Override
+            public List<List<Field>> permute(final List<Field> elements) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Stream<List<Field>> stream(final List<Field> elements) {
+                return Stream.generate(() -> elements);
+            }
+        };
+        final ObjectGenerator objectGenerator = new ObjectGenerator(abstractFieldValueChanger,
+                                                                    constructorParameters,
+                                                                    endlessPermutator);
+        final ClassAndFieldPredicatePair classAndFieldPredicatePair = new ClassAndFieldPredicatePair(
+                ClassWithBooleanField.class);
+
+        // when
+        final List<Object> result = objectGenerator.streamDifferentObjects(classAndFieldPredicatePair)
+                                                   .limit(3)
+                                                   .collect(Collectors.toList());
+
+        // then
+        assertThat(result).hasSize(3);
+    }
+
+    @Test
+    void Should_Generate_Different_Objects_Incrementally() {
+        // given
+        final ObjectGenerator objectGenerator = new ObjectGenerator(abstractFieldValueChanger,
+                                                                    constructorParameters,
+                                                                    new GrayCodeFieldPermutator(),
+                                                                    true);
+        final ClassAndFieldPredicatePair classAndFieldPredicatePair = new ClassAndFieldPredicatePair(
+                ClassContainingPrivateEnum.class);
+        final List<Object> baseObjects = new ArrayList<>();
+        final List<Object> workingCopies = new ArrayList<>();
+        final List<Object> result = new ArrayList<>();
+
+        // when
+        objectGenerator.forEachDifferentObject(classAndFieldPredicatePair,
+                                               new ClassAndFieldPredicatePair[0],
+                                               (baseObject, differentObject) -> {
+                                                   baseObjects.add(baseObject);
+                                                   workingCopies.add(differentObject);
+                                                   result.add(objectGenerator.generateSameInstance(differentObject));
+                                               });
+
+        // then
+        assertThat(result).hasSize(15)
+                          .doesNotHaveDuplicates()
+                          .doesNotContain(baseObjects.get(0));
+        assertThat(baseObjects).containsOnly(baseObjects.get(0));
+        assertThat(workingCopies).allMatch(workingCopy -> workingCopy == workingCopies.get(0));
+    }
+
+    @Test
+    void Should_Change_Same_Fields_Incrementally_With_Gray_Code_As_With_Thorough_Permutator() {
+        // given
+        final ObjectGenerator grayCodeObjectGenerator = new ObjectGenerator(abstractFieldValueChanger,
+                                                                            constructorParameters,
+                                                                            new GrayCodeFieldPermutator(),
+                                                                            true);
+        final ObjectGenerator thoroughObjectGenerator = new ObjectGenerator(abstractFieldValueChanger,
+                                                                            constructorParameters,
+                                                                            new ThoroughFieldPermutator(),
+                                                                            true);
+        final List<Set<Field>> expectedResult = changedFieldsOfDifferentObjects(thoroughObjectGenerator);
+
+        // when
+        final List<Set<Field>> result = changedFieldsOfDifferentObjects(grayCodeObjectGenerator);
+
+        // then
+        assertThat(result).hasSize(15)
+                          .doesNotHaveDuplicates()
+                          .containsExactlyInAnyOrderElementsOf(expectedResult);
+    }
+
+    @Test
+    void Should_Generate_New_Different_Objects_When_Not_Incremental() {
+        // given
+        final ObjectGenerator objectGenerator = makeObjectGenerator(abstractFieldValueChanger, constructorParameters);
+        final ClassAndFieldPredicatePair classAndFieldPredicatePair = new ClassAndFieldPredicatePair(
+                ClassContainingPrivateEnum.class);
+        final List<Object> result = new ArrayList<>();
+
+        // when
+        objectGenerator.forEachDifferentObject(classAndFieldPredicatePair,
+                                               new ClassAndFieldPredicatePair[0],
+                                               (baseObject, differentObject) -> result.add(differentObject));
+
+        // then
+        assertThat(result).hasSize(15)
+                          .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void Should_Create_Java_Type_Values_From_Given_Clock_And_Seed() {
+        // given
+        final Clock clock = Clock.fixed(Instant.parse("2020-02-29T23:59:59Z"), ZoneOffset.UTC);
+        final ObjectGenerator objectGenerator = new ObjectGenerator(abstractFieldValueChanger,
+                                                                    constructorParameters,
+                                                                    new ThoroughFieldPermutator(),
+                                                                    false,
+                                                                    NestedObjectsCombination.cartesian(),
+                                                                    clock,
+                                                                    7L);
+
+        // when
+        final Object date = objectGenerator.createNewInstance(LocalDate.class);
+        final Object uuid = objectGenerator.createNewInstance(UUID.class);
+
+        // then
+        assertThat(date).isEqualTo(LocalDate.of(2020, 2, 29));
+        assertThat(uuid).isEqualTo(new UUID(7L, 7L));
+    }
+
+    @Test
+    void Should_Reuse_Different_Objects_Of_Other_Generator_In_Same_Session() {
+        // given
+        final GenerationSession generationSession = new GenerationSession();
+        final Permutator permutator = new ThoroughFieldPermutator();
+        final ObjectGenerator firstObjectGenerator = new ObjectGenerator(abstractFieldValueChanger,
+                                                                         constructorParameters,
+                                                                         permutator);
+        final ObjectGenerator secondObjectGenerator = new ObjectGenerator(abstractFieldValueChanger,
+                                                                          constructorParameters,
+                                                                          permutator);
+        firstObjectGenerator.setGenerationSession(generationSession);
+        secondObjectGenerator.setGenerationSession(generationSession);
+        final ClassAndFieldPredicatePair classAndFieldPredicatePair = new ClassAndFieldPredicatePair(
+                ClassContainingPrivateEnum.class);
+        final List<Object> expectedResult = new ArrayList<>();
+        firstObjectGenerator.forEachDifferentObject(classAndFieldPredicatePair,
+                                                    new ClassAndFieldPredicatePair[0],
+                                                    (baseObject, differentObject) -> expectedResult.add(
+                                                            differentObject));
+        final List<Object> result = new ArrayList<>();
+
+        // when
+        secondObjectGenerator.forEachDifferentObject(classAndFieldPredicatePair,
+                                                     new ClassAndFieldPredicatePair[0],
+                                                     (baseObject, differentObject) -> result.add(differentObject));
+
+        // then
+        assertThat(result).hasSize(15)
+                          .usingElementComparator((first, second) -> first == second ? 0 : 1)
+                          .containsExactlyElementsOf(expectedResult);
+    }
+
     @Test
     void Should_Create_Any_Instance() {
         // given
@@ -218,10 +403,144 @@ class ObjectGeneratorTest {
                           .doesNotHaveDuplicates();
     }
 
+    @TestFactory
+    Stream<DynamicTest> Should_Generate_Different_Objects_Recursively_Combining_Nested_Objects() {
+        return Stream.of(new NestedObjectsCombinationTestCase(NestedObjectsCombination.cartesian(), 945),
+                         new NestedObjectsCombinationTestCase(NestedObjectsCombination.eachVariantOnce(), 99),
+                         new NestedObjectsCombinationTestCase(NestedObjectsCombination.pairwise(), 361),
+                         new NestedObjectsCombinationTestCase(NestedObjectsCombination.cartesian()
+                                                                                      .limitedTo(1), 16))
+                     .map(value -> dynamicTest(getDefaultDisplayName(value),
+                                               Should_Generate_Different_Objects_Recursively_Combining_Nested_Objects(
+                                                       value)));
+    }
+
+    private Executable Should_Generate_Different_Objects_Recursively_Combining_Nested_Objects(final NestedObjectsCombinationTestCase testCase) {
+        return () -> {
+            // given
+            final ObjectGenerator objectGenerator = new ObjectGenerator(abstractFieldValueChanger,
+                                                                        constructorParameters,
+                                                                        new ThoroughFieldPermutator(),
+                                                                        false,
+                                                                        testCase.nestedObjectsCombination);
+
+            // when
+            final List<Object> result = objectGenerator.generateDifferentObjects(pair(H.class),
+                                                                                 pair(A.class),
+                                                                                 pair(B.class),
+                                                                                 pair(F.class),
+                                                                                 pair(G.class));
+
+            // then
+            assertThat(result).hasSize(testCase.expectedSize)
+                              .doesNotHaveDuplicates();
+        };
+    }
+
+    @Test
+    void Should_Not_Fall_In_Endless_Loop_When_Classes_Contain_Each_Other() {
+        // given
+        final ObjectGenerator objectGenerator = makeObjectGenerator(abstractFieldValueChanger, constructorParameters);
+        final ClassAndFieldPredicatePair sClass = new ClassAndFieldPredicatePair(S.class);
+        final ClassAndFieldPredicatePair tClass = new ClassAndFieldPredicatePair(T.class);
+
+        // when
+        final List<Object> result = objectGenerator.generateDifferentObjects(sClass, sClass, tClass);
+
+        // then
+        assertThat(result).hasSize(6)
+                          .doesNotHaveDuplicates();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> Should_Generate_Nested_Objects_Of_Base_Class_When_Classes_Contain_Each_Other() {
+        final RecursivelyDifferentObjectTestCase case1 = new RecursivelyDifferentObjectTestCase(5,
+                                                                                                pair(P.class),
+                                                                                                new ClassAndFieldPredicatePair[]{ pair(Q.class) });
+        final RecursivelyDifferentObjectTestCase case2 = new RecursivelyDifferentObjectTestCase(6,
+                                                                                                pair(Q.class),
+                                                                                                new ClassAndFieldPredicatePair[]{ pair(P.class) });
+        final RecursivelyDifferentObjectTestCase case3 = new RecursivelyDifferentObjectTestCase(5,
+                                                                                                pair(P.class),
+                                                                                                new ClassAndFieldPredicatePair[]{ pair(P.class), pair(Q.class) });
+        final RecursivelyDifferentObjectTestCase case4 = new RecursivelyDifferentObjectTestCase(6,
+                                                                                                pair(Q.class),
+                                                                                                new ClassAndFieldPredicatePair[]{ pair(P.class), pair(Q.class) });
+
+        return Stream.of(case1, case2, case3, case4)
+                     .map(value -> dynamicTest(getDefaultDisplayName(value),
+                                               Should_Generate_Different_Objects_Recursively(value)));
+    }
+
+    @Test
+    void Should_Generate_Nested_Objects_Of_Each_Base_Class_When_Classes_Contain_Each_Other_In_Same_Session() {
+        // given
+        final ObjectGenerator objectGenerator = makeObjectGenerator(abstractFieldValueChanger, constructorParameters);
+        objectGenerator.setGenerationSession(new GenerationSession());
+        final ClassAndFieldPredicatePair[] classes = { pair(P.class), pair(Q.class) };
+        final List<Object> objectsOfP = new ArrayList<>();
+        final List<Object> objectsOfQ = new ArrayList<>();
+
+        // when
+        objectGenerator.forEachDifferentObject(pair(P.class),
+                                               classes,
+                                               (baseObject, differentObject) -> objectsOfP.add(differentObject));
+        objectGenerator.forEachDifferentObject(pair(Q.class),
+                                               classes,
+                                               (baseObject, differentObject) -> objectsOfQ.add(differentObject));
+
+        // then
+        assertThat(objectsOfP).hasSize(4);
+        assertThat(objectsOfQ).hasSize(5);
+    }
+
+    @Test
+    void Should_Reuse_Nested_Objects_For_Every_Base_Class_In_Same_Session() {
+        // given
+        final ObjectGenerator objectGenerator = makeObjectGenerator(abstractFieldValueChanger, constructorParameters);
+        objectGenerator.setGenerationSession(new GenerationSession());
+        final ClassAndFieldPredicatePair[] classes = { pair(D.class), pair(E.class), pair(F.class), pair(G.class) };
+        final List<Object> nestedObjectsOfD = new ArrayList<>();
+        final List<Object> nestedObjectsOfG = new ArrayList<>();
+
+        // when
+        objectGenerator.forEachDifferentObject(pair(D.class),
+                                               classes,
+                                               (baseObject, differentObject) -> nestedObjectsOfD.add(
+                                                       ((D) differentObject).getF()));
+        objectGenerator.forEachDifferentObject(pair(G.class),
+                                               classes,
+                                               (baseObject, differentObject) -> nestedObjectsOfG.add(
+                                                       ((G) differentObject).getF()));
+
+        // then
+        assertThat(nestedObjectsOfG).allMatch(nestedObject -> nestedObjectsOfD.stream()
+                                                                              .anyMatch(other -> other == nestedObject));
+    }
+
     private ClassAndFieldPredicatePair pair(final Class<?> clazz) {
         return new ClassAndFieldPredicatePair(clazz);
     }
 
+    private List<Set<Field>> changedFieldsOfDifferentObjects(final ObjectGenerator objectGenerator) {
+        final List<Field> fields = FieldUtils.getAllFields(PrivateConstructor.class);
+        final List<Set<Field>> result = new ArrayList<>();
+        objectGenerator.forEachDifferentObject(new ClassAndFieldPredicatePair(PrivateConstructor.class),
+                                               new ClassAndFieldPredicatePair[0],
+                                               (baseObject, differentObject) -> {
+                                                   final Set<Field> changedFields = new HashSet<>();
+                                                   for (final Field field : fields) {
+                                                       if (!Objects.equals(FieldUtils.getValue(baseObject, field),
+                                                                           FieldUtils.getValue(differentObject,
+                                                                                               field))) {
+                                                           changedFields.add(field);
+                                                       }
+                                                   }
+                                                   result.add(changedFields);
+                                               });
+        return result;
+    }
+
     @Data
     private class Arrays_Primitive_Boolean {
         private final boolean[] a = new boolean[]{};
@@ -359,6 +678,28 @@ class ObjectGeneratorTest {
         R r;
     }
 
+    @Data
+    class S {
+        int a;
+        T t;
+    }
+
+    @Data
+    class T {
+        S s;
+    }
+
+    @Data
+    class P {
+        Q q;
+    }
+
+    @Data
+    class Q {
+        int x;
+        P p;
+    }
+
     @Data
     private class ClassWithBooleanField {
         private boolean booleanField;
@@ -379,6 +720,13 @@ class ObjectGeneratorTest {
         private ClassAndFieldPredicatePair[] otherClasses;
     }
 
+    @Data
+    @AllArgsConstructor
+    private class NestedObjectsCombinationTestCase {
+        private NestedObjectsCombination nestedObjectsCombination;
+        private int expectedSize;
+    }
+
     private class GoodPojo_Equals_HashCode_ToString {
         long random;
         byte byteField;
@@ -564,5 +912,4 @@ class ObjectGeneratorTest {
             this.secondChild = UUID.randomUUID();
         }
     }
-
 }
@@ -0,0 +1,39 @@
+package com.java.pojo.internal.instantiator;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class PrototypesTest {
+
+    @Test
+    void Should_Create_Time_Values_From_Given_Clock() {
+        // given
+        final Clock clock = Clock.fixed(Instant.parse("2020-02-29T23:59:59Z"), ZoneOffset.UTC);
+
+        // when
+        final Prototypes result = Prototypes.of(clock);
+
+        // then
+        assertThat(result.get(LocalDate.class)).isEqualTo(LocalDate.of(2020, 2, 29));
+        assertThat(result.get(Instant.class)).isEqualTo(Instant.parse("2020-02-29T23:59:59Z"));
+    }
+
+    @Test
+    void Should_Share_Prototypes_Of_Default_Clock() {
+        // given
+        final Prototypes prototypes = Prototypes.of(Prototypes.DEFAULT_CLOCK);
+
+        // when
+        final Prototypes result = Prototypes.of(Clock.fixed(Prototypes.DEFAULT_CLOCK.instant(), ZoneOffset.UTC));
+
+        // then
+        assertThat(result).isSameAs(prototypes);
+    }
+}
@@ -0,0 +1,85 @@
+package com.java.pojo.internal.instantiator;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class ProxyAnswersTest {
+
+    @Test
+    void Should_Return_Same_Answers_For_Same_Type() {
+        // when
+        final ProxyAnswers result1 = ProxyAnswers.forType(Answering.class);
+        final ProxyAnswers result2 = ProxyAnswers.forType(Answering.class);
+
+        // then
+        assertThat(result1).isSameAs(result2);
+    }
+
+    @Test
+    void Should_Answer_Defaults_Of_Return_Types() {
+        // given
+        final Answering proxy = (Answering) Proxy.newProxyInstance(Answering.class.getClassLoader(),
+                                                                   new Class[]{ Answering.class },
+                                                                   ProxyAnswers.forType(Answering.class));
+
+        // when
+        final long longValue = proxy.getLong();
+        final Integer integerValue = proxy.getInteger();
+        final List<String> listValue = proxy.getList();
+        final Level enumValue = proxy.getLevel();
+        final boolean booleanValue = proxy.isActive();
+        final String stringValue = proxy.defaultName();
+
+        // then
+        assertThat(longValue).isZero();
+        assertThat(integerValue).isZero();
+        assertThat(listValue).isNull();
+        assertThat(enumValue).isEqualTo(Level.LOW);
+        assertThat(booleanValue).isTrue();
+        assertThat(stringValue).isEqualTo("string");
+    }
+
+    @Test
+    void Should_Answer_Annotation_Default_Values() {
+        // given
+        final Annotated proxy = (Annotated) Proxy.newProxyInstance(Annotated.class.getClassLoader(),
+                                                                   new Class[]{ Annotated.class },
+                                                                   ProxyAnswers.forType(Annotated.class));
+
+        // when
+        final int result = proxy.value();
+
+        // then
+        assertThat(result).isEqualTo(5);
+    }
+
+    private enum Level {
+        LOW,
+        HIGH
+    }
+
+    private interface Answering {
+        long getLong();
+
+        Integer getInteger();
+
+        List<String> getList();
+
+        Level getLevel();
+
+        boolean isActive();
+
+        default String defaultName() {
+            return "default";
+        }
+    }
+
+    private @interface Annotated {
+        int value() default 5;
+    }
+}
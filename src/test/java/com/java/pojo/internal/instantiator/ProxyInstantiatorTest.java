@@ -36,7 +36,9 @@ class ProxyInstantiatorTest {
     private Executable Should_Instantiate_Abstract_Interface_Or_Annotation_Classes(final Class<?> classToInstantiate) {
         return () -> {
             // given
-            final ProxyInstantiator instantiator = new ProxyInstantiator(classToInstantiate, constructorParameters);
+            final ProxyInstantiator instantiator = new ProxyInstantiator(classToInstantiate,
+                                                                         constructorParameters,
+                                                                         new InstantiationContext());
 
             // when
             final Object result = instantiator.instantiate();
@@ -49,7 +51,9 @@ class ProxyInstantiatorTest {
     @Test
     void Should_Create_Java_Proxy_Which_Returns_Expected_Values() {
         // given
-        final ProxyInstantiator instantiator = new ProxyInstantiator(Interface.class, constructorParameters);
+        final ProxyInstantiator instantiator = new ProxyInstantiator(Interface.class,
+                                                                     constructorParameters,
+                                                                     new InstantiationContext());
 
         // when
         final Object result = instantiator.instantiate();
@@ -60,6 +64,22 @@ class ProxyInstantiatorTest {
         assertThat(result.hashCode()).isZero();
     }
 
+    @Test
+    void Should_Reuse_Generated_Subclass_Of_Abstract_Class() {
+        // given
+        final ProxyInstantiator instantiator = new ProxyInstantiator(Abstract.class,
+                                                                     constructorParameters,
+                                                                     new InstantiationContext());
+
+        // when
+        final Object result1 = instantiator.instantiate();
+        final Object result2 = instantiator.instantiate();
+
+        // then
+        assertThat(result1).isNotSameAs(result2);
+        assertThat(result1.getClass()).isSameAs(result2.getClass());
+    }
+
     @TestFactory
     Stream<DynamicTest> Should_Create_Abstract_Class_Without_Default_Constructor() {
         return Stream.of(A.class, B.class, C.class, D.class, E.class)
@@ -71,7 +91,9 @@ class ProxyInstantiatorTest {
         return () -> {
             // given
 
-            final ProxyInstantiator instantiator = new ProxyInstantiator(classToInstantiate, constructorParameters);
+            final ProxyInstantiator instantiator = new ProxyInstantiator(classToInstantiate,
+                                                                         constructorParameters,
+                                                                         new InstantiationContext());
 
             // when
             final Object result = instantiator.instantiate();
@@ -43,7 +43,8 @@ class UserDefinedConstructorInstantiatorTest {
         final Class<ClassWithPrivateConstructor> classToInstantiate = ClassWithPrivateConstructor.class;
         final UserDefinedConstructorInstantiator instantiator = new UserDefinedConstructorInstantiator(
                 classToInstantiate,
-                constructorParameters);
+                constructorParameters,
+                new InstantiationContext());
 
         // when
         final Object result = instantiator.instantiate();
@@ -58,7 +59,8 @@ class UserDefinedConstructorInstantiatorTest {
         final Class<InnerClass> classToInstantiate = InnerClass.class;
         final UserDefinedConstructorInstantiator instantiator = new UserDefinedConstructorInstantiator(
                 classToInstantiate,
-                constructorParameters);
+                constructorParameters,
+                new InstantiationContext());
 
         // when
         final Object result = instantiator.instantiate();
@@ -73,7 +75,8 @@ class UserDefinedConstructorInstantiatorTest {
         final Class<NestedClass> classToInstantiate = NestedClass.class;
         final UserDefinedConstructorInstantiator instantiator = new UserDefinedConstructorInstantiator(
                 classToInstantiate,
-                constructorParameters);
+                constructorParameters,
+                new InstantiationContext());
 
         // when
         final Object result = instantiator.instantiate();
@@ -95,7 +98,8 @@ class UserDefinedConstructorInstantiatorTest {
             // given
             final UserDefinedConstructorInstantiator instantiator = new UserDefinedConstructorInstantiator(
                     classToInstantiate,
-                    constructorParameters);
+                    constructorParameters,
+                    new InstantiationContext());
 
             // when
             final Throwable result = catchThrowable(instantiator::instantiate);
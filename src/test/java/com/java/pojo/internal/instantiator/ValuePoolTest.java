@@ -0,0 +1,136 @@
+package com.java.pojo.internal.instantiator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValuePoolTest {
+
+    private final AtomicInteger createdValues = new AtomicInteger();
+    private final Function<Class<?>, Object> firstValue = type -> {
+        createdValues.incrementAndGet();
+        return 0;
+    };
+    private final UnaryOperator<Object> nextValue = value -> {
+        createdValues.incrementAndGet();
+        return (Integer) value + 1;
+    };
+
+    @Test
+    void Should_Return_Value_With_Given_Index() {
+        // given
+        final ValuePool valuePool = new ValuePool(firstValue, nextValue);
+
+        // when
+        final Object result = valuePool.get(Integer.class, 5);
+
+        // then
+        assertThat(result).isEqualTo(5);
+    }
+
+    @Test
+    void Should_Create_Each_Value_Once() {
+        // given
+        final ValuePool valuePool = new ValuePool(firstValue, nextValue);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            valuePool.get(Integer.class, i);
+        }
+
+        // then
+        assertThat(createdValues).hasValue(100);
+    }
+
+    @Test
+    void Should_Return_Last_Distinct_Value_When_There_Are_No_More_Values() {
+        // given
+        final ValuePool valuePool = new ValuePool(firstValue, value -> (Integer) value < 2
+                                                                       ? (Integer) value + 1
+                                                                       : null);
+
+        // when
+        final Object result = valuePool.get(Integer.class, 10);
+
+        // then
+        assertThat(result).isEqualTo(2);
+    }
+
+    @Test
+    void Should_Create_Values_Again_Above_Capacity_Of_Type() {
+        // given
+        final ValuePool valuePool = new ValuePool(firstValue, nextValue, 10, 3);
+
+        // when
+        final Object result = valuePool.get(Integer.class, 5);
+        valuePool.get(Integer.class, 5);
+
+        // then
+        assertThat(result).isEqualTo(5);
+        assertThat(createdValues).hasValue(3 + 3 + 3);
+    }
+
+    @Test
+    void Should_Evict_Least_Recently_Used_Type() {
+        // given
+        final ValuePool valuePool = new ValuePool(firstValue, nextValue, 2, 10);
+        valuePool.get(Integer.class, 0);
+        valuePool.get(Long.class, 0);
+        valuePool.get(Integer.class, 0);
+        valuePool.get(Short.class, 0);
+
+        // when
+        valuePool.get(Integer.class, 0);
+        valuePool.get(Long.class, 0);
+
+        // then
+        assertThat(createdValues).hasValue(4);
+    }
+
+    @Test
+    void Should_Keep_Values_Of_Immutable_Types() {
+        // given
+        final ValuePool valuePool = new ValuePool(type -> new String("value"), nextValue);
+        final Object expectedResult = valuePool.get(String.class, 0);
+
+        // when
+        final Object result = valuePool.get(String.class, 0);
+
+        // then
+        assertThat(result).isSameAs(expectedResult);
+    }
+
+    @Test
+    void Should_Not_Keep_Values_Of_Mutable_Types() {
+        // given
+        final ValuePool valuePool = new ValuePool(type -> new Date(), nextValue);
+        final Object notExpectedResult = valuePool.get(Date.class, 0);
+
+        // when
+        final Object result = valuePool.get(Date.class, 0);
+
+        // then
+        assertThat(result).isNotSameAs(notExpectedResult);
+    }
+
+    @Test
+    void Should_Not_Keep_Values_Of_Collections() {
+        // given
+        final ValuePool valuePool = new ValuePool(type -> new ArrayList<>(), nextValue);
+        final Object notExpectedResult = valuePool.get(List.class, 0);
+
+        // when
+        final Object result = valuePool.get(List.class, 0);
+
+        // then
+        assertThat(result).isNotSameAs(notExpectedResult);
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.java.pojo.internal.tester;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.junit.jupiter.api.Test;
+import com.java.pojo.internal.assertion.equals.AbstractEqualsAssertionError;
+import com.java.pojo.internal.assertion.hashcode.EqualHashCodeAssertionError;
+import com.java.pojo.internal.assertion.hashcode.NotEqualHashCodeAssertionError;
+import com.java.pojo.internal.field.DefaultFieldValueChanger;
+
+import lombok.Data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static com.java.pojo.api.FieldPredicate.include;
+
+
+class EqualsAndHashCodeTesterTest {
+
+    @Test
+    void Should_Pass_All_Equals_And_HashCode_Tests() {
+        // given
+        final Class[] classesToTest = {GoodPojo.class};
+        final EqualsAndHashCodeTester tester = new EqualsAndHashCodeTester(DefaultFieldValueChanger.INSTANCE);
+
+        // when
+        final Throwable result = catchThrowable(() -> tester.testAll(classesToTest));
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void Should_Fail_When_Equal_Objects_Have_Different_Hash_Codes() {
+        // given
+        final EqualsAndHashCodeTester tester = new EqualsAndHashCodeTester();
+
+        // when
+        final Throwable result = catchThrowable(() -> tester.test(HashCodeInconsistentWithEquals.class,
+                                                                  include("compared")));
+
+        // then
+        assertThat(result).isInstanceOf(EqualHashCodeAssertionError.class);
+    }
+
+    @Test
+    void Should_Fail_When_Not_Equal_Objects_Have_Same_Hash_Codes() {
+        // given
+        final EqualsAndHashCodeTester tester = new EqualsAndHashCodeTester();
+
+        // when
+        final Throwable result = catchThrowable(() -> tester.test(ConstantHashCode.class));
+
+        // then
+        assertThat(result).isInstanceOf(NotEqualHashCodeAssertionError.class);
+    }
+
+    @Test
+    void Should_Fail_Equals_Test_Before_HashCode_Test() {
+        // given
+        final EqualsAndHashCodeTester tester = new EqualsAndHashCodeTester();
+
+        // when
+        final Throwable result = catchThrowable(() -> tester.test(AlwaysEqual.class));
+
+        // then
+        assertThat(result).isInstanceOf(AbstractEqualsAssertionError.class);
+    }
+
+    @Data
+    static class GoodPojo {
+        private int number;
+        private String text;
+    }
+
+    static class HashCodeInconsistentWithEquals {
+        private int compared;
+        private int notCompared;
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final HashCodeInconsistentWithEquals that = (HashCodeInconsistentWithEquals) o;
+            return new EqualsBuilder().append(compared, that.compared)
+                                      .isEquals();
+        }
+
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder().append(compared)
+                                        .append(notCompared)
+                                        .toHashCode();
+        }
+    }
+
+    @Data
+    static class ConstantHashCode {
+        private int number;
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+    }
+
+    static class AlwaysEqual {
+        private int number;
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof AlwaysEqual;
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+    }
+}
@@ -175,4 +175,17 @@ class GetterTesterTest {
         }
     }
 
+    private class CopyPasteGetterBugPojo {
+        private String fieldA;
+        private String fieldB;
+
+        public String getFieldA() {
+            return fieldA;
+        }
+
+        public String getFieldB() {
+            return fieldA;
+        }
+    }
+
 }
@@ -0,0 +1,103 @@
+package com.java.pojo.internal.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class AccessorIndexTest {
+
+    @Test
+    void Should_Find_Getters_By_Property_Name() throws NoSuchFieldException, NoSuchMethodException {
+        // given
+        final AccessorIndex index = new AccessorIndex(Pojo.class);
+
+        // when
+        final Optional<Method> name = index.findGetterFor(field("name"));
+        final Optional<Method> active = index.findGetterFor(field("active"));
+        final Optional<Method> isValid = index.findGetterFor(field("isValid"));
+        final Optional<Method> items = index.findGetterFor(field("items"));
+
+        // then
+        assertThat(name).contains(Pojo.class.getMethod("getName"));
+        assertThat(active).contains(Pojo.class.getMethod("hasActive"));
+        assertThat(isValid).contains(Pojo.class.getMethod("isValid"));
+        assertThat(items).contains(Pojo.class.getMethod("containsItems"));
+    }
+
+    @Test
+    void Should_Not_Find_Getter_With_Not_Assignable_Return_Type() throws NoSuchFieldException {
+        // given
+        final AccessorIndex index = new AccessorIndex(Pojo.class);
+
+        // when
+        final Optional<Method> result = index.findGetterFor(field("count"));
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void Should_Find_Setters_By_Property_Name() throws NoSuchFieldException, NoSuchMethodException {
+        // given
+        final AccessorIndex index = new AccessorIndex(Pojo.class);
+
+        // when
+        final Optional<Method> name = index.findSetterFor(field("name"));
+        final Optional<Method> isValid = index.findSetterFor(field("isValid"));
+        final Optional<Method> count = index.findSetterFor(field("count"));
+
+        // then
+        assertThat(name).contains(Pojo.class.getMethod("setName", String.class));
+        assertThat(isValid).contains(Pojo.class.getMethod("setValid", boolean.class));
+        assertThat(count).isEmpty();
+    }
+
+    private Field field(final String name) throws NoSuchFieldException {
+        return Pojo.class.getDeclaredField(name);
+    }
+
+    public static class Pojo {
+        private String name;
+        private boolean active;
+        private boolean isValid;
+        private Boolean items;
+        private long count;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        public boolean hasActive() {
+            return active;
+        }
+
+        public boolean isValid() {
+            return isValid;
+        }
+
+        public void setValid(final boolean valid) {
+            isValid = valid;
+        }
+
+        public Boolean containsItems() {
+            return items;
+        }
+
+        public String getCount() {
+            return String.valueOf(count);
+        }
+
+        public void setCount(final String count) {
+            this.count = Long.parseLong(count);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.java.pojo.internal.utils;
+
+import helpers.TestHelper;
+import org.junit.jupiter.api.Test;
+
+import artefact.classes.fields.ClassWithAllAvailableFieldModifiers;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class ClassMetadataTest {
+
+    @Test
+    void Should_Return_Same_Metadata_For_Same_Class() {
+        // when
+        final ClassMetadata result1 = ClassMetadata.of(ClassWithAllAvailableFieldModifiers.class);
+        final ClassMetadata result2 = ClassMetadata.of(ClassWithAllAvailableFieldModifiers.class);
+
+        // then
+        assertThat(result1).isSameAs(result2);
+    }
+
+    @Test
+    void Should_Return_Declared_Non_Static_Fields() {
+        // given
+        final List<Field> expectedFields = TestHelper.getAllFieldsExceptDummyJacocoField(
+                ClassWithAllAvailableFieldModifiers.class);
+
+        // when
+        final List<Field> result = ClassMetadata.of(ClassWithAllAvailableFieldModifiers.class)
+                                                .getDeclaredFields();
+
+        // then
+        assertThat(result).containsExactlyElementsOf(expectedFields);
+    }
+
+    @Test
+    void Should_Return_Fields_Of_Class_And_Its_Superclasses() throws NoSuchFieldException {
+        // given
+        final Field childField = Child.class.getDeclaredField("child");
+        final Field parentField = Parent.class.getDeclaredField("parent");
+
+        // when
+        final List<Field> result = ClassMetadata.of(Child.class)
+                                                .getAllFields();
+
+        // then
+        assertThat(result).containsExactly(childField, parentField);
+    }
+
+    @Test
+    void Should_Recognize_Inner_Class() {
+        // when
+        final ClassMetadata result = ClassMetadata.of(Parent.class);
+
+        // then
+        assertThat(result.isInnerClass()).isTrue();
+        assertThat(result.getEnclosingClass()).isEqualTo(ClassMetadataTest.class);
+    }
+
+    @Test
+    void Should_Not_Recognize_Static_Nested_Class_As_Inner_Class() {
+        // when
+        final ClassMetadata result = ClassMetadata.of(StaticNested.class);
+
+        // then
+        assertThat(result.isInnerClass()).isFalse();
+        assertThat(result.getDeclaredConstructors()).hasSize(2);
+    }
+
+    @Test
+    void Should_Find_Getter_And_Setter() throws NoSuchFieldException, NoSuchMethodException {
+        // given
+        final Field field = Parent.class.getDeclaredField("parent");
+
+        // when
+        final Method getter = ClassMetadata.of(Parent.class)
+                                           .findGetterFor(field);
+        final Method setter = ClassMetadata.of(Parent.class)
+                                           .findSetterFor(field);
+
+        // then
+        assertThat(getter).isEqualTo(Parent.class.getMethod("getParent"));
+        assertThat(setter).isEqualTo(Parent.class.getMethod("setParent", int.class));
+    }
+
+    private class Parent {
+        private int parent;
+
+        public int getParent() {
+            return parent;
+        }
+
+        public void setParent(final int parent) {
+            this.parent = parent;
+        }
+    }
+
+    private class Child extends Parent {
+        private int child;
+    }
+
+    private static class StaticNested {
+        StaticNested() {
+        }
+
+        StaticNested(final int a) {
+        }
+    }
+}
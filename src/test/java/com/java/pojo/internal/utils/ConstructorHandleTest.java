@@ -0,0 +1,83 @@
+package com.java.pojo.internal.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+
+class ConstructorHandleTest {
+
+    @Test
+    void Should_Return_Same_Handle_For_Same_Constructor() throws ReflectiveOperationException {
+        // given
+        final Constructor<?> constructor = Pojo.class.getDeclaredConstructor(String.class, int.class);
+
+        // when
+        final ConstructorHandle result1 = ConstructorHandle.of(constructor);
+        final ConstructorHandle result2 = ConstructorHandle.find(Pojo.class, String.class, int.class);
+
+        // then
+        assertThat(result1).isSameAs(result2);
+    }
+
+    @Test
+    void Should_Create_Instance_Using_Private_Constructor() throws Throwable {
+        // given
+        final ConstructorHandle handle = ConstructorHandle.find(Pojo.class, String.class, int.class);
+
+        // when
+        final Object result = handle.newInstance("text", 7);
+
+        // then
+        assertThat(result).isEqualTo(new Pojo("text", 7));
+    }
+
+    @Test
+    void Should_Create_Instance_Using_No_Args_Constructor() throws Throwable {
+        // given
+        final ConstructorHandle handle = ConstructorHandle.find(Pojo.class);
+
+        // when
+        final Object result = handle.newInstance();
+
+        // then
+        assertThat(result).isEqualTo(new Pojo(null, 0));
+    }
+
+    @Test
+    void Should_Throw_Exception_When_Constructor_Does_Not_Exist() {
+        // when
+        final Throwable result = catchThrowable(() -> ConstructorHandle.find(Pojo.class, long.class));
+
+        // then
+        assertThat(result).isInstanceOf(NoSuchMethodException.class);
+    }
+
+    private static class Pojo {
+        private final String text;
+        private final int number;
+
+        private Pojo() {
+            this(null, 0);
+        }
+
+        private Pojo(final String text, final int number) {
+            this.text = text;
+            this.number = number;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Pojo other && Objects.equals(text, other.text) && number == other.number;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(text, number);
+        }
+    }
+}
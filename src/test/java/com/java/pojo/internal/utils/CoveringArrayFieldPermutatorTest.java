@@ -0,0 +1,59 @@
+package com.java.pojo.internal.utils;
+
+import org.junit.jupiter.api.Test;
+
+import artefact.classes.permutator.A;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static com.java.pojo.internal.utils.CollectionUtils.asList;
+
+class CoveringArrayFieldPermutatorTest {
+
+    @Test
+    void Should_Create_All_Permutations_When_Strength_Is_Not_Lower_Than_Number_Of_Fields()
+            throws NoSuchFieldException {
+        // given
+        final CoveringArrayFieldPermutator permutator = new CoveringArrayFieldPermutator(2);
+        final Field aField = A.class.getDeclaredField("a");
+        final Field bField = A.class.getDeclaredField("b");
+        final List<Field> elements = asList(aField, bField);
+
+        // when
+        final List<List<Field>> result = permutator.permute(elements);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(asList(aField), asList(bField), asList(aField, bField));
+    }
+
+    @Test
+    void Should_Create_Few_Non_Empty_Permutations_For_Many_Fields() throws NoSuchFieldException {
+        // given
+        final CoveringArrayFieldPermutator permutator = new CoveringArrayFieldPermutator(2);
+        final Field aField = A.class.getDeclaredField("a");
+        final Field bField = A.class.getDeclaredField("b");
+        final List<Field> elements = asList(aField, bField, aField, bField, aField, bField, aField, bField);
+
+        // when
+        final List<List<Field>> result = permutator.permute(elements);
+
+        // then
+        assertThat(result).isNotEmpty()
+                          .doesNotContain(Collections.emptyList())
+                          .hasSizeLessThan(12);
+    }
+
+    @Test
+    void Should_Throw_Exception_When_Strength_Is_Lower_Than_One() {
+        // when
+        final Throwable result = catchThrowable(() -> new CoveringArrayFieldPermutator(0));
+
+        // then
+        assertThat(result).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
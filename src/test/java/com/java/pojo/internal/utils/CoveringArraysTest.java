@@ -0,0 +1,178 @@
+package com.java.pojo.internal.utils;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static helpers.TestHelper.getDefaultDisplayName;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+class CoveringArraysTest {
+
+    @TestFactory
+    Stream<DynamicTest> Should_Cover_Every_Combination_Of_Values() {
+        return Stream.of(new CoveringArraysTestCase(new int[]{ 2, 2, 2, 2, 2 }, 1),
+                         new CoveringArraysTestCase(new int[]{ 2, 2, 2, 2, 2, 2, 2, 2, 2, 2 }, 2),
+                         new CoveringArraysTestCase(new int[]{ 3, 2, 4, 1, 2, 3, 2 }, 2),
+                         new CoveringArraysTestCase(new int[]{ 2, 2, 2, 2, 2, 2, 2, 2, 2, 2 }, 3),
+                         new CoveringArraysTestCase(new int[]{ 2, 3, 2 }, 3),
+                         new CoveringArraysTestCase(new int[]{ 2, 3 }, 3))
+                     .map(value -> dynamicTest(getDefaultDisplayName(value),
+                                               Should_Cover_Every_Combination_Of_Values(value)));
+    }
+
+    private Executable Should_Cover_Every_Combination_Of_Values(final CoveringArraysTestCase testCase) {
+        return () -> {
+            // when
+            final List<int[]> result = CoveringArrays.of(testCase.levels, testCase.strength);
+
+            // then
+            assertThat(uncoveredCombinations(result, testCase.levels, testCase.strength)).isEmpty();
+        };
+    }
+
+    @Test
+    void Should_Create_Cartesian_Product_When_Strength_Is_Not_Lower_Than_Number_Of_Parameters() {
+        // given
+        final int[] levels = { 2, 3 };
+
+        // when
+        final List<int[]> result = CoveringArrays.of(levels, 2);
+
+        // then
+        assertThat(result).hasSize(6);
+    }
+
+    @Test
+    void Should_Create_Few_Rows_For_Many_Parameters() {
+        // given
+        final int[] levels = new int[40];
+        Arrays.fill(levels, 2);
+
+        // when
+        final List<int[]> result = CoveringArrays.of(levels, 2);
+
+        // then
+        assertThat(uncoveredCombinations(result, levels, 2)).isEmpty();
+        assertThat(result).hasSizeLessThan(20);
+    }
+
+    @Test
+    void Should_Create_No_Rows_For_No_Parameters() {
+        // when
+        final List<int[]> result = CoveringArrays.of(new int[0], 2);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void Should_Throw_Exception_When_Strength_Is_Lower_Than_One() {
+        // when
+        final Throwable result = catchThrowable(() -> CoveringArrays.of(new int[]{ 2, 2 }, 0));
+
+        // then
+        assertThat(result).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void Should_Throw_Exception_When_Parameter_Has_No_Values() {
+        // when
+        final Throwable result = catchThrowable(() -> CoveringArrays.of(new int[]{ 2, 0 }, 2));
+
+        // then
+        assertThat(result).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> uncoveredCombinations(final List<int[]> rows, final int[] levels, final int strength) {
+        final int size = Math.min(strength, levels.length);
+        final Set<String> covered = new HashSet<>();
+        final List<int[]> parameterCombinations = new ArrayList<>();
+        combinations(levels.length, size, 0, new int[size], 0, parameterCombinations);
+        for (final int[] row : rows) {
+            for (final int[] parameters : parameterCombinations) {
+                covered.add(key(parameters, valuesOf(row, parameters)));
+            }
+        }
+        final List<String> uncovered = new ArrayList<>();
+        for (final int[] parameters : parameterCombinations) {
+            final List<int[]> valueCombinations = new ArrayList<>();
+            values(levels, parameters, 0, new int[size], valueCombinations);
+            for (final int[] values : valueCombinations) {
+                final String key = key(parameters, values);
+                if (!covered.contains(key)) {
+                    uncovered.add(key);
+                }
+            }
+        }
+        return uncovered;
+    }
+
+    private static void combinations(final int n,
+                                     final int size,
+                                     final int start,
+                                     final int[] current,
+                                     final int index,
+                                     final List<int[]> result) {
+        if (index == size) {
+            result.add(current.clone());
+            return;
+        }
+        for (int i = start; i < n; i++) {
+            current[index] = i;
+            combinations(n, size, i + 1, current, index + 1, result);
+        }
+    }
+
+    private static void values(final int[] levels,
+                               final int[] parameters,
+                               final int index,
+                               final int[] current,
+                               final List<int[]> result) {
+        if (index == parameters.length) {
+            result.add(current.clone());
+            return;
+        }
+        for (int value = 0; value < levels[parameters[index]]; value++) {
+            current[index] = value;
+            values(levels, parameters, index + 1, current, result);
+        }
+    }
+
+    private static int[] valuesOf(final int[] row, final int[] parameters) {
+        final int[] values = new int[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            values[i] = row[parameters[i]];
+        }
+        return values;
+    }
+
+    private static String key(final int[] parameters, final int[] values) {
+        return Arrays.toString(parameters) + "=" + Arrays.toString(values);
+    }
+
+    private static class CoveringArraysTestCase {
+        private final int[] levels;
+        private final int strength;
+
+        private CoveringArraysTestCase(final int[] levels, final int strength) {
+            this.levels = levels;
+            this.strength = strength;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(levels) + ", strength=" + strength;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.java.pojo.internal.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class FieldHandleTest {
+
+    @Test
+    void Should_Return_Same_Handle_For_Same_Field() throws NoSuchFieldException {
+        // when
+        final FieldHandle result1 = FieldHandle.of(Fields.class.getDeclaredField("text"));
+        final FieldHandle result2 = FieldHandle.of(Fields.class.getDeclaredField("text"));
+
+        // then
+        assertThat(result1).isSameAs(result2);
+    }
+
+    @Test
+    void Should_Get_And_Set_Private_Field() throws NoSuchFieldException {
+        // given
+        final Fields fields = new Fields();
+        final FieldHandle handle = FieldHandle.of(Fields.class.getDeclaredField("text"));
+
+        // when
+        handle.set(fields, "changed");
+        final Object result = handle.get(fields);
+
+        // then
+        assertThat(result).isEqualTo("changed");
+    }
+
+    @Test
+    void Should_Get_And_Set_Primitive_Field_Without_Boxing() throws NoSuchFieldException {
+        // given
+        final Fields fields = new Fields();
+        final FieldHandle handle = FieldHandle.of(Fields.class.getDeclaredField("number"));
+
+        // when
+        handle.setLong(fields, 42L);
+        final long result = handle.getLong(fields);
+
+        // then
+        assertThat(result).isEqualTo(42L);
+        assertThat(handle.get(fields)).isEqualTo(42L);
+    }
+
+    @Test
+    void Should_Ignore_Writes_To_Final_Field() throws NoSuchFieldException {
+        // given
+        final Fields fields = new Fields();
+        final FieldHandle handle = FieldHandle.of(Fields.class.getDeclaredField("constant"));
+
+        // when
+        handle.set(fields, 2);
+        final Object result = handle.get(fields);
+
+        // then
+        assertThat(result).isEqualTo(1);
+    }
+
+    private static class Fields {
+        private final int constant = 1;
+        private String text = "text";
+        private long number;
+    }
+}
@@ -0,0 +1,82 @@
+package com.java.pojo.internal.utils;
+
+import org.junit.jupiter.api.Test;
+
+import artefact.classes.permutator.A;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static com.java.pojo.internal.utils.CollectionUtils.asList;
+
+class GrayCodeFieldPermutatorTest {
+
+    @Test
+    void Should_Create_Permutations() throws NoSuchFieldException {
+        // given
+        final GrayCodeFieldPermutator permutator = new GrayCodeFieldPermutator();
+        final Field aField = A.class.getDeclaredField("a");
+        final Field bField = A.class.getDeclaredField("b");
+        final List<Field> elements = asList(aField, bField);
+        final List<List<Field>> expectedResult = asList(asList(aField), asList(aField, bField), asList(bField));
+
+        // when
+        final List<List<Field>> result = permutator.permute(elements);
+
+        // then
+        assertThat(result).isEqualTo(expectedResult);
+    }
+
+    @Test
+    void Should_Create_Permutations_Differing_By_One_Field() {
+        // given
+        final GrayCodeFieldPermutator permutator = new GrayCodeFieldPermutator();
+        final List<Field> elements = Arrays.asList(Character.class.getDeclaredFields())
+                                           .subList(0, 6);
+
+        // when
+        final List<List<Field>> result = permutator.permute(elements);
+
+        // then
+        assertThat(result).hasSize(63)
+                          .doesNotHaveDuplicates();
+        for (int i = 1; i < result.size(); i++) {
+            final Set<Field> difference = new HashSet<>(result.get(i - 1));
+            for (final Field field : result.get(i)) {
+                if (!difference.remove(field)) {
+                    difference.add(field);
+                }
+            }
+            assertThat(difference).hasSize(1);
+        }
+    }
+
+    @Test
+    void Should_Toggle_Field_Differing_Between_Consecutive_Permutations() {
+        // given
+        final GrayCodeFieldPermutator permutator = new GrayCodeFieldPermutator();
+        final List<Field> elements = Arrays.asList(Character.class.getDeclaredFields())
+                                           .subList(0, 6);
+        final List<List<Field>> permutations = permutator.permute(elements);
+
+        // when
+        final int[] result = permutator.toggledFieldIndexes(elements)
+                                       .toArray();
+
+        // then
+        assertThat(result).hasSize(permutations.size());
+        final Set<Field> fields = new HashSet<>();
+        for (int i = 0; i < result.length; i++) {
+            final Field toggledField = elements.get(result[i]);
+            if (!fields.remove(toggledField)) {
+                fields.add(toggledField);
+            }
+            assertThat(fields).containsExactlyInAnyOrderElementsOf(permutations.get(i));
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.java.pojo.internal.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+
+class MethodAccessorsTest {
+
+    @Test
+    void Should_Return_Same_Accessor_For_Same_Method() throws NoSuchMethodException {
+        // when
+        final Function<Object, Object> result1 = MethodAccessors.getter(Pojo.class.getDeclaredMethod("getNumber"));
+        final Function<Object, Object> result2 = MethodAccessors.getter(Pojo.class.getDeclaredMethod("getNumber"));
+
+        // then
+        assertThat(result1).isSameAs(result2);
+    }
+
+    @Test
+    void Should_Get_And_Set_Primitive_Value_Through_Private_Accessors() throws NoSuchMethodException {
+        // given
+        final Pojo pojo = new Pojo();
+        final BiConsumer<Object, Object> setter = MethodAccessors.setter(Pojo.class.getDeclaredMethod("setNumber",
+                                                                                                       int.class));
+        final Function<Object, Object> getter = MethodAccessors.getter(Pojo.class.getDeclaredMethod("getNumber"));
+
+        // when
+        setter.accept(pojo, 42);
+        final Object result = getter.apply(pojo);
+
+        // then
+        assertThat(result).isEqualTo(42);
+    }
+
+    @Test
+    void Should_Propagate_Exception_Thrown_By_Getter() throws NoSuchMethodException {
+        // given
+        final Function<Object, Object> getter = MethodAccessors.getter(Pojo.class.getDeclaredMethod("getFailing"));
+
+        // when
+        final Throwable result = catchThrowable(() -> getter.apply(new Pojo()));
+
+        // then
+        assertThat(result).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void Should_Get_And_Set_Value_Through_Reflective_Accessors_Of_Non_Public_Methods() throws NoSuchMethodException {
+        // given
+        final Pojo pojo = new Pojo();
+        final BiConsumer<Object, Object> setter = MethodAccessors.reflectiveSetter(Pojo.class.getDeclaredMethod(
+                "setNumber",
+                int.class));
+        final Function<Object, Object> getter = MethodAccessors.reflectiveGetter(Pojo.class.getDeclaredMethod(
+                "getNumber"));
+
+        // when
+        setter.accept(pojo, 42);
+        final Object result = getter.apply(pojo);
+
+        // then
+        assertThat(result).isEqualTo(42);
+    }
+
+    @Test
+    void Should_Propagate_Exception_Thrown_By_Getter_Invoked_Reflectively() throws NoSuchMethodException {
+        // given
+        final Function<Object, Object> getter = MethodAccessors.reflectiveGetter(Pojo.class.getDeclaredMethod(
+                "getFailing"));
+
+        // when
+        final Throwable result = catchThrowable(() -> getter.apply(new Pojo()));
+
+        // then
+        assertThat(result).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void Should_Throw_Exception_When_Method_Cannot_Be_Made_Accessible() throws NoSuchMethodException {
+        // given
+        final Method getter = String.class.getDeclaredMethod("isLatin1");
+
+        // when
+        final Throwable result = catchThrowable(() -> MethodAccessors.getter(getter));
+
+        // then
+        assertThat(result).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class Pojo {
+        private int number;
+
+        private int getNumber() {
+            return number;
+        }
+
+        private void setNumber(final int number) {
+            this.number = number;
+        }
+
+        private String getFailing() {
+            throw new IllegalStateException();
+        }
+    }
+}
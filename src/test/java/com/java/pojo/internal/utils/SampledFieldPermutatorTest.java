@@ -0,0 +1,90 @@
+package com.java.pojo.internal.utils;
+
+import org.junit.jupiter.api.Test;
+
+import artefact.classes.permutator.A;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static com.java.pojo.internal.utils.CollectionUtils.asList;
+
+class SampledFieldPermutatorTest {
+
+    @Test
+    void Should_Create_All_Permutations_When_Budget_Exceeds_Number_Of_Permutations() throws NoSuchFieldException {
+        // given
+        final SampledFieldPermutator permutator = new SampledFieldPermutator(42, 10);
+        final Field aField = A.class.getDeclaredField("a");
+        final Field bField = A.class.getDeclaredField("b");
+        final List<Field> elements = asList(aField, bField);
+
+        // when
+        final List<List<Field>> result = permutator.permute(elements);
+
+        // then
+        assertThat(result).containsExactly(asList(aField), asList(bField), asList(aField, bField));
+    }
+
+    @Test
+    void Should_Create_Single_Fields_All_Fields_And_Budget_Of_Other_Permutations() {
+        // given
+        final SampledFieldPermutator permutator = new SampledFieldPermutator(42, 5);
+        final List<Field> elements = manyFields(20);
+
+        // when
+        final List<List<Field>> result = permutator.permute(elements);
+
+        // then
+        assertThat(result).hasSize(20 + 1 + 5)
+                          .doesNotHaveDuplicates()
+                          .doesNotContain(Collections.emptyList())
+                          .contains(asList(elements.get(0)), asList(elements.get(19)))
+                          .contains(elements);
+    }
+
+    @Test
+    void Should_Create_Same_Permutations_For_Same_Seed() {
+        // given
+        final List<Field> elements = manyFields(30);
+        final List<List<Field>> expectedResult = new SampledFieldPermutator(7, 10).permute(elements);
+
+        // when
+        final List<List<Field>> result = new SampledFieldPermutator(7, 10).permute(elements);
+
+        // then
+        assertThat(result).isEqualTo(expectedResult);
+    }
+
+    @Test
+    void Should_Create_Different_Permutations_For_Different_Seeds() {
+        // given
+        final List<Field> elements = manyFields(30);
+        final List<List<Field>> notExpectedResult = new SampledFieldPermutator(7, 10).permute(elements);
+
+        // when
+        final List<List<Field>> result = new SampledFieldPermutator(8, 10).permute(elements);
+
+        // then
+        assertThat(result).isNotEqualTo(notExpectedResult);
+    }
+
+    @Test
+    void Should_Throw_Exception_When_Budget_Is_Negative() {
+        // when
+        final Throwable result = catchThrowable(() -> new SampledFieldPermutator(1, -1));
+
+        // then
+        assertThat(result).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Field> manyFields(final int size) {
+        return Arrays.asList(Character.class.getDeclaredFields())
+                     .subList(0, size);
+    }
+
+}
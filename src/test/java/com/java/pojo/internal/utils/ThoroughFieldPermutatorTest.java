@@ -5,9 +5,13 @@ import org.junit.jupiter.api.Test;
 import artefact.classes.permutator.A;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static com.java.pojo.internal.utils.CollectionUtils.asList;
 
 class ThoroughFieldPermutatorTest {
@@ -28,4 +32,37 @@ class ThoroughFieldPermutatorTest {
         assertThat(result).isEqualTo(expectedResult);
     }
 
-}
\ No newline at end of file
+    @Test
+    void Should_Stream_Permutations_On_Demand() throws NoSuchFieldException {
+        // given
+        final ThoroughFieldPermutator permutator = new ThoroughFieldPermutator();
+        final Field aField = A.class.getDeclaredField("a");
+        final Field bField = A.class.getDeclaredField("b");
+        final List<Field> elements = new ArrayList<>(Collections.nCopies(60, aField));
+        elements.set(1, bField);
+        final List<List<Field>> expectedResult = asList(asList(aField), asList(bField), asList(aField, bField));
+
+        // when
+        final List<List<Field>> result = permutator.stream(elements)
+                                                   .limit(3)
+                                                   .collect(Collectors.toList());
+
+        // then
+        assertThat(result).isEqualTo(expectedResult);
+    }
+
+    @Test
+    void Should_Throw_Exception_When_Too_Many_Fields_To_Permute() throws NoSuchFieldException {
+        // given
+        final ThoroughFieldPermutator permutator = new ThoroughFieldPermutator();
+        final Field aField = A.class.getDeclaredField("a");
+        final List<Field> elements = Collections.nCopies(Long.SIZE, aField);
+
+        // when
+        final Throwable result = catchThrowable(() -> permutator.stream(elements));
+
+        // then
+        assertThat(result).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}